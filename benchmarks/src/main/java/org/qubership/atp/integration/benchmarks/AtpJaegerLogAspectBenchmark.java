@@ -0,0 +1,168 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.qubership.atp.integration.configuration.annotation.AtpJaegerLog;
+import org.qubership.atp.integration.configuration.annotation.AtpSpanTag;
+import org.qubership.atp.integration.configuration.component.AtpJaegerLogAspect;
+import org.slf4j.MDC;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import brave.Tracer;
+import brave.Tracing;
+import brave.handler.MutableSpan;
+import brave.handler.SpanHandler;
+import brave.propagation.TraceContext;
+import brave.sampler.Sampler;
+
+/**
+ * Overhead of AtpJaegerLogAspect per call depending on number of MDC values matching default mdcToTag keys.
+ * startScopedSpan benchmark is the baseline the aspect is compared to.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AtpJaegerLogAspectBenchmark {
+
+    /**
+     * Default mdcToTag keys of AtpJaegerLog annotation.
+     */
+    private static final String[] MDC_KEYS = {
+            "attributeId", "bvTestCaseId", "bvTestRunId", "callChainId", "dataSetId", "dataSetListId",
+            "environment", "environmentId", "executionRequestId", "itfContextId", "itfLiteRequestId",
+            "itfSessionId", "miaProcessId", "miaCompoundId", "projectId", "requestId", "subscriberId",
+            "svpSessionId", "systemId", "testRunId", "traceId", "userId"
+    };
+
+    /**
+     * Number of MDC values matching mdcToTag keys.
+     */
+    @Param({"0", "5", "22"})
+    public int mdcKeys;
+
+    /**
+     * Whether spans are sampled.
+     */
+    @Param({"true", "false"})
+    public boolean sampled;
+
+    /**
+     * Tracing object.
+     */
+    private Tracing tracing;
+
+    /**
+     * Tracer object.
+     */
+    private Tracer tracer;
+
+    /**
+     * Proxy of traced service.
+     */
+    private TracedService service;
+
+    /**
+     * Create tracing, traced service proxy and fill MDC.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        tracing = Tracing.newBuilder()
+                .sampler(sampled ? Sampler.ALWAYS_SAMPLE : Sampler.NEVER_SAMPLE)
+                .addSpanHandler(new SpanHandler() {
+                    @Override
+                    public boolean end(final TraceContext context, final MutableSpan span, final Cause cause) {
+                        return true;
+                    }
+                })
+                .build();
+        tracer = tracing.tracer();
+        AspectJProxyFactory factory = new AspectJProxyFactory(new TracedService());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new AtpJaegerLogAspect(tracer));
+        service = factory.getProxy();
+        MDC.clear();
+        for (int i = 0; i < mdcKeys; i++) {
+            MDC.put(MDC_KEYS[i], "value-" + i);
+        }
+    }
+
+    /**
+     * Close tracing and clear MDC.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        tracing.close();
+        MDC.clear();
+    }
+
+    /**
+     * Call of the method traced by the aspect.
+     *
+     * @return String result of the method.
+     */
+    @Benchmark
+    public String aspect() {
+        return service.find("name", 1);
+    }
+
+    /**
+     * Start and finish of a scoped span only, without the aspect.
+     */
+    @Benchmark
+    public void startScopedSpan() {
+        tracer.startScopedSpan("TracedService.find()").finish();
+    }
+
+    /**
+     * Service with traced method.
+     */
+    public static class TracedService {
+
+        /**
+         * Traced method with tags evaluated from arguments.
+         *
+         * @param name String name
+         * @param number int number
+         * @return String name.
+         */
+        @AtpJaegerLog(spanTags = {
+                @AtpSpanTag(key = "name", value = "#name"),
+                @AtpSpanTag(key = "type", value = "'search'")
+        })
+        public String find(final String name, final int number) {
+            return name;
+        }
+    }
+}
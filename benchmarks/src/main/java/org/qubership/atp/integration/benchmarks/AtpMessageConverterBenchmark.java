@@ -0,0 +1,80 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.qubership.atp.integration.configuration.logging.logback.AtpMessageConverter;
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.LoggingEvent;
+
+/**
+ * Cost of masking encrypted data in a log message.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AtpMessageConverterBenchmark {
+
+    /**
+     * Message converter.
+     */
+    private AtpMessageConverter converter;
+
+    /**
+     * Logging event with a typical message.
+     */
+    private LoggingEvent event;
+
+    /**
+     * Create converter and logging event.
+     */
+    @Setup(org.openjdk.jmh.annotations.Level.Trial)
+    public void setUp() {
+        converter = new AtpMessageConverter();
+        Logger logger = (Logger) LoggerFactory.getLogger(AtpMessageConverterBenchmark.class);
+        event = new LoggingEvent(Logger.class.getName(), logger, Level.INFO,
+                "Start execution of test plan {} for project {} with {} test cases",
+                null, new Object[]{"Regression", BenchmarkData.PROJECT_ID, 125});
+    }
+
+    /**
+     * Converted message.
+     *
+     * @return String message.
+     */
+    @Benchmark
+    public String convert() {
+        return converter.convert(event);
+    }
+}
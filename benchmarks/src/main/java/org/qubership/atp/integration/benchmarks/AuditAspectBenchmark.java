@@ -0,0 +1,138 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.benchmarks;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.qubership.atp.integration.configuration.configuration.AuditAction;
+import org.qubership.atp.integration.configuration.configuration.AuditAspect;
+import org.slf4j.MDC;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+/**
+ * Cost of capturing user action of a method annotated with AuditAction.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuditAspectBenchmark {
+
+    /**
+     * Proxy of audited controller.
+     */
+    private AuditedController controller;
+
+    /**
+     * Proxy of controller without audited methods.
+     */
+    private AuditedController plainController;
+
+    /**
+     * Test plan id argument.
+     */
+    private UUID testPlanId;
+
+    /**
+     * Create controller proxies.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new AuditedController());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new AuditAspect());
+        controller = factory.getProxy();
+        plainController = new AuditedController();
+        testPlanId = UUID.randomUUID();
+    }
+
+    /**
+     * Clear MDC.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        MDC.clear();
+    }
+
+    /**
+     * Audited method with template.
+     *
+     * @return UUID argument.
+     */
+    @Benchmark
+    public UUID template() {
+        return controller.delete(testPlanId, "plan");
+    }
+
+    /**
+     * Audited method with literal action.
+     */
+    @Benchmark
+    public void literal() {
+        controller.create();
+    }
+
+    /**
+     * Method call without the aspect, as baseline.
+     *
+     * @return UUID argument.
+     */
+    @Benchmark
+    public UUID baseline() {
+        return plainController.delete(testPlanId, "plan");
+    }
+
+    /**
+     * Controller with audited methods.
+     */
+    public static class AuditedController {
+
+        /**
+         * Audited method with parameters used in the template.
+         *
+         * @param id UUID of test plan
+         * @param name String name of test plan
+         * @return UUID id.
+         */
+        @AuditAction(auditAction = "Delete test plan '{{#name}}' ({{#id}})")
+        public UUID delete(final UUID id, final String name) {
+            return id;
+        }
+
+        /**
+         * Audited method with literal action.
+         */
+        @AuditAction(auditAction = "Create test plan")
+        public void create() {
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+/**
+ * Requests and tokens shared by benchmarks.
+ */
+public final class BenchmarkData {
+
+    /**
+     * Business IDs configured by default.
+     */
+    public static final String BUSINESS_IDS = "userId,projectId,executionRequestId,testRunId,bvTestRunId,"
+            + "bvTestCaseId,environmentId,systemId,subscriberId,tsgSessionId,svpSessionId,dataSetId,dataSetListId,"
+            + "attributeId,itfLiteRequestId,reportType,itfSessionId,itfContextId,callChainId";
+
+    /**
+     * User id in tokens.
+     */
+    public static final String USER_ID = "c2344d70-3707-4418-a9c9-dbdb8beca796";
+
+    /**
+     * Session id in tokens.
+     */
+    public static final String SESSION_ID = "8085b7d3-9472-470a-b914-d70071d2b072";
+
+    /**
+     * Project id header value.
+     */
+    public static final String PROJECT_ID = "ea2be7c4-b9f2-4d63-a4b1-5d94075fcc9f";
+
+    /**
+     * Number of headers forwarded by gateway in addition to business IDs.
+     */
+    public static final int FORWARDED_HEADERS = 40;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Create user Bearer token, not expiring during benchmark, with claims like the ones issued by Keycloak.
+     *
+     * @return String Authorization header value.
+     */
+    public static String userToken() {
+        long exp = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + TimeUnit.DAYS.toSeconds(1);
+        return bearerToken("{\"jti\":\"" + UUID.randomUUID() + "\",\"exp\":" + exp + ",\"nbf\":0,"
+                + "\"iat\":1662376172,\"iss\":\"https://keycloak.example.com/auth/realms/atp\",\"aud\":\"account\","
+                + "\"sub\":\"" + USER_ID + "\",\"typ\":\"Bearer\",\"azp\":\"frontend\",\"auth_time\":0,"
+                + "\"session_state\":\"" + SESSION_ID + "\",\"acr\":\"1\",\"allowed-origins\":[\"*\"],"
+                + "\"realm_access\":{\"roles\":[\"offline_access\",\"ATP_ADMIN\",\"uma_authorization\"]},"
+                + "\"resource_access\":{\"account\":{\"roles\":[\"manage-account\",\"manage-account-links\","
+                + "\"view-profile\"]}},\"scope\":\"email profile\",\"email_verified\":false,"
+                + "\"name\":\"Example User\",\"preferred_username\":\"example\",\"given_name\":\"example\","
+                + "\"family_name\":\"example\",\"email\":\"example@example.com\"}");
+    }
+
+    /**
+     * Create unsigned Bearer token with claims given.
+     *
+     * @param claims String JSON claims
+     * @return String Authorization header value.
+     */
+    public static String bearerToken(final String claims) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return "Bearer " + encoder.encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8))
+                + "." + encoder.encodeToString(claims.getBytes(StandardCharsets.UTF_8))
+                + "." + encoder.encodeToString("signature".getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Create request like the ones forwarded by gateway: many headers, a few business IDs and a user token.
+     *
+     * @return MockHttpServletRequest object.
+     */
+    public static MockHttpServletRequest gatewayRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET",
+                "/catalog/api/v1/projects/" + PROJECT_ID + "/testplans");
+        for (int i = 0; i < FORWARDED_HEADERS; i++) {
+            request.addHeader("X-Forwarded-Header-" + i, "value-" + i);
+        }
+        request.addHeader("X-Project-Id", PROJECT_ID);
+        request.addHeader("x-execution-request-id", UUID.randomUUID().toString());
+        request.addHeader("X-Test-Run-Id", UUID.randomUUID().toString());
+        request.addHeader("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 "
+                + "(KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36");
+        request.addHeader("referer", "https://atp.example.com/project/" + PROJECT_ID);
+        request.addHeader(HttpHeaders.AUTHORIZATION, userToken());
+        request.setRemoteAddr("10.0.0.1");
+        return request;
+    }
+}
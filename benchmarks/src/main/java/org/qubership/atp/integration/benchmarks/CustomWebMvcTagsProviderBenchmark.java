@@ -0,0 +1,87 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.benchmarks;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.qubership.atp.integration.configuration.metrics.providers.CustomWebMvcTagsProvider;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.Tag;
+
+/**
+ * Cost of Web MVC metrics tags of a request.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CustomWebMvcTagsProviderBenchmark {
+
+    /**
+     * Tags provider without contributors.
+     */
+    private CustomWebMvcTagsProvider tagsProvider;
+
+    /**
+     * Request forwarded by gateway.
+     */
+    private MockHttpServletRequest request;
+
+    /**
+     * Response.
+     */
+    private MockHttpServletResponse response;
+
+    /**
+     * Create tags provider and request.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        tagsProvider = new CustomWebMvcTagsProvider(false, Collections.emptyList());
+        request = BenchmarkData.gatewayRequest();
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE,
+                "/catalog/api/v1/projects/{projectId}/testplans");
+        response = new MockHttpServletResponse();
+    }
+
+    /**
+     * Tags of completed request.
+     *
+     * @return Iterable of Tags.
+     */
+    @Benchmark
+    public Iterable<Tag> getTags() {
+        return tagsProvider.getTags(request, response, null, null);
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.benchmarks;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.qubership.atp.integration.configuration.protos.KafkaAuditLoggingMessage.AuditLoggingMessage;
+import org.qubership.atp.integration.configuration.serializers.KafkaProtobufSerializer;
+
+/**
+ * Producer of audit logging messages which serializes records and discards them.
+ */
+public class DiscardingProducer extends MockProducer<UUID, AuditLoggingMessage> {
+
+    /**
+     * Serializer of audit logging messages.
+     */
+    private final KafkaProtobufSerializer<AuditLoggingMessage> serializer = new KafkaProtobufSerializer<>();
+
+    @Override
+    public Future<RecordMetadata> send(final ProducerRecord<UUID, AuditLoggingMessage> record) {
+        return send(record, null);
+    }
+
+    @Override
+    public Future<RecordMetadata> send(final ProducerRecord<UUID, AuditLoggingMessage> record,
+                                       final Callback callback) {
+        serializer.serialize(record.topic(), record.value());
+        return CompletableFuture.completedFuture(null);
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.qubership.atp.integration.configuration.filters.AuditLoggingFilter;
+import org.qubership.atp.integration.configuration.filters.MdcHttpFilter;
+import org.qubership.atp.integration.configuration.helpers.HttpRequestParseHelper;
+import org.qubership.atp.integration.configuration.helpers.JwtParseHelper;
+import org.qubership.atp.integration.configuration.mdc.BusinessIdRegistry;
+import org.qubership.atp.integration.configuration.mdc.MdcField;
+import org.qubership.atp.integration.configuration.service.AuditLoggingService;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Cost of MdcHttpFilter and AuditLoggingFilter per request forwarded by gateway.
+ * Audit logging messages are serialized but not sent anywhere.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HttpFiltersBenchmark {
+
+    /**
+     * Whether the request calls a method annotated with AuditAction.
+     */
+    @Param({"false", "true"})
+    public boolean audited;
+
+    /**
+     * Request forwarded by gateway.
+     */
+    private MockHttpServletRequest request;
+
+    /**
+     * Response.
+     */
+    private MockHttpServletResponse response;
+
+    /**
+     * MdcHttpFilter with default business IDs.
+     */
+    private MdcHttpFilter mdcHttpFilter;
+
+    /**
+     * AuditLoggingFilter with service sending to discarding producer.
+     */
+    private AuditLoggingFilter auditLoggingFilter;
+
+    /**
+     * Chain which captures user action if the request is audited.
+     */
+    private FilterChain filterChain;
+
+    /**
+     * Create filters and request.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        JwtParseHelper jwtParseHelper = new JwtParseHelper();
+        mdcHttpFilter = new MdcHttpFilter(jwtParseHelper, BusinessIdRegistry.of(BenchmarkData.BUSINESS_IDS));
+        AuditLoggingService auditLoggingService = new AuditLoggingService(new DiscardingProducer(),
+                jwtParseHelper, new HttpRequestParseHelper());
+        ReflectionTestUtils.setField(auditLoggingService, "serviceName", "benchmark");
+        ReflectionTestUtils.setField(auditLoggingService, "topic", "audit_logging_topic");
+        auditLoggingFilter = new AuditLoggingFilter(auditLoggingService, jwtParseHelper);
+        request = BenchmarkData.gatewayRequest();
+        response = new MockHttpServletResponse();
+        filterChain = (req, res) -> {
+            if (audited) {
+                MDC.put(MdcField.USER_ACTION.toString(), "Get test plans");
+            }
+        };
+    }
+
+    /**
+     * Clear MDC.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        MDC.clear();
+    }
+
+    /**
+     * MdcHttpFilter: business IDs and user id from request into MDC.
+     *
+     * @throws ServletException in case of filter errors
+     * @throws IOException in case of filter errors.
+     */
+    @Benchmark
+    public void mdcHttpFilter() throws ServletException, IOException {
+        request.clearAttributes();
+        mdcHttpFilter.doFilter(request, response, filterChain);
+    }
+
+    /**
+     * AuditLoggingFilter: audit logging message if a user action is captured.
+     *
+     * @throws ServletException in case of filter errors
+     * @throws IOException in case of filter errors.
+     */
+    @Benchmark
+    public void auditLoggingFilter() throws ServletException, IOException {
+        request.clearAttributes();
+        auditLoggingFilter.doFilter(request, response, filterChain);
+    }
+
+    /**
+     * Both filters, as they are chained for a request.
+     *
+     * @throws ServletException in case of filter errors
+     * @throws IOException in case of filter errors.
+     */
+    @Benchmark
+    public void mdcAndAuditLoggingFilters() throws ServletException, IOException {
+        request.clearAttributes();
+        mdcHttpFilter.doFilter(request, response,
+                (req, res) -> auditLoggingFilter.doFilter(req, res, filterChain));
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.qubership.atp.integration.configuration.helpers.JwtParseHelper;
+import org.qubership.atp.integration.configuration.helpers.JwtTokenCache;
+import org.qubership.atp.integration.configuration.helpers.TokenClaims;
+
+/**
+ * Cost of parsing authorization token: legacy full claims map, streaming claims extraction and cached claims.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtParseHelperBenchmark {
+
+    /**
+     * Authorization header value.
+     */
+    private String token;
+
+    /**
+     * JwtParseHelper without cache.
+     */
+    private JwtParseHelper jwtParseHelper;
+
+    /**
+     * JwtParseHelper with cache of parsed tokens.
+     */
+    private JwtParseHelper cachingJwtParseHelper;
+
+    /**
+     * Create token and helpers.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        token = BenchmarkData.userToken();
+        jwtParseHelper = new JwtParseHelper();
+        cachingJwtParseHelper = new JwtParseHelper(new JwtTokenCache(1000, 300));
+    }
+
+    /**
+     * Full claims map.
+     *
+     * @return Map of token claims.
+     */
+    @Benchmark
+    public Map<String, ?> getTokenDataMapFromToken() {
+        return jwtParseHelper.getTokenDataMapFromToken(token);
+    }
+
+    /**
+     * Claims needed by the starter, extracted by streaming parser.
+     *
+     * @return TokenClaims object.
+     */
+    @Benchmark
+    public TokenClaims getTokenClaimsFromToken() {
+        return jwtParseHelper.getTokenClaimsFromToken(token);
+    }
+
+    /**
+     * Claims needed by the starter, taken from cache.
+     *
+     * @return TokenClaims object.
+     */
+    @Benchmark
+    public TokenClaims getTokenClaimsFromTokenCached() {
+        return cachingJwtParseHelper.getTokenClaimsFromToken(token);
+    }
+}
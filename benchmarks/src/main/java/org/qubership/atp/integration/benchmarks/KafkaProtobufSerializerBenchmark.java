@@ -0,0 +1,90 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.benchmarks;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.qubership.atp.integration.configuration.protos.KafkaAuditLoggingMessage.AuditLoggingMessage;
+import org.qubership.atp.integration.configuration.serializers.KafkaProtobufSerializer;
+
+/**
+ * Cost of serializing an audit logging message.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KafkaProtobufSerializerBenchmark {
+
+    /**
+     * Serializer.
+     */
+    private KafkaProtobufSerializer<AuditLoggingMessage> serializer;
+
+    /**
+     * Typical audit logging message.
+     */
+    private AuditLoggingMessage message;
+
+    /**
+     * Create serializer and message.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        serializer = new KafkaProtobufSerializer<>();
+        message = AuditLoggingMessage.newBuilder()
+                .setId(UUID.randomUUID().toString())
+                .setSessionId(BenchmarkData.SESSION_ID)
+                .setProjectId(BenchmarkData.PROJECT_ID)
+                .setService("catalogue")
+                .setUsername("Example User")
+                .setUserId(BenchmarkData.USER_ID)
+                .setUrl("/catalog/api/v1/projects/" + BenchmarkData.PROJECT_ID + "/testplans")
+                .setStartDate(System.currentTimeMillis())
+                .setHttpMethod("GET")
+                .setReferPage("https://atp.example.com/project/" + BenchmarkData.PROJECT_ID)
+                .setIpAddress("10.0.0.1")
+                .setUserAgent("Chrome")
+                .setUserAction("Get test plans")
+                .setHttpStatusCode(200)
+                .build();
+    }
+
+    /**
+     * Serialized message.
+     *
+     * @return byte[] serialized message.
+     */
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize("audit_logging_topic", message);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.qubership.atp.integration.configuration.decorators.MdcTaskDecorator;
+import org.qubership.atp.integration.configuration.mdc.MdcSnapshot;
+import org.slf4j.MDC;
+
+/**
+ * Cost of carrying MDC to a task: copying the MDC map versus sharing an immutable snapshot.
+ * Tasks run on the benchmark thread, so only capture and restore are measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MdcPropagationBenchmark {
+
+    /**
+     * Number of MDC keys.
+     */
+    @Param({"5", "22"})
+    public int mdcKeys;
+
+    /**
+     * MDC of the submitting thread.
+     */
+    private MdcSnapshot mdc;
+
+    /**
+     * Decorator under test.
+     */
+    private MdcTaskDecorator mdcTaskDecorator;
+
+    /**
+     * Put values into MDC.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        for (int i = 0; i < mdcKeys; i++) {
+            MDC.put("key" + i, "value-" + i);
+        }
+        mdc = MdcSnapshot.capture();
+        mdcTaskDecorator = new MdcTaskDecorator();
+    }
+
+    /**
+     * Clear MDC.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        MDC.clear();
+    }
+
+    /**
+     * Copy MDC map and set the copy, as tasks were decorated before snapshots.
+     *
+     * @return Map of MDC values copied.
+     */
+    @Benchmark
+    public Map<String, String> copyContextMap() {
+        Map<String, String> contextMap = MDC.getCopyOfContextMap();
+        MDC.setContextMap(contextMap);
+        return contextMap;
+    }
+
+    /**
+     * Capture and restore snapshot.
+     *
+     * @return MdcSnapshot captured.
+     */
+    @Benchmark
+    public MdcSnapshot captureAndRestoreSnapshot() {
+        MdcSnapshot snapshot = MdcSnapshot.capture();
+        snapshot.restore();
+        return snapshot;
+    }
+
+    /**
+     * Decorate and run a task; MDC cleared by the task is restored afterwards.
+     *
+     * @param blackhole Blackhole consuming MDC value read by the task.
+     */
+    @Benchmark
+    public void decorateAndRunTask(final Blackhole blackhole) {
+        mdcTaskDecorator.decorate(() -> blackhole.consume(MDC.get("key0"))).run();
+        mdc.restore();
+    }
+}
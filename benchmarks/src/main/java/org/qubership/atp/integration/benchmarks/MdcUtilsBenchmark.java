@@ -0,0 +1,94 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.qubership.atp.integration.configuration.mdc.MdcUtils;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+/**
+ * Cost of header name conversion and case-insensitive header lookup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MdcUtilsBenchmark {
+
+    /**
+     * Business ID name.
+     */
+    private String idName;
+
+    /**
+     * Request forwarded by gateway.
+     */
+    private MockHttpServletRequest request;
+
+    /**
+     * Create request.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        idName = "executionRequestId";
+        request = BenchmarkData.gatewayRequest();
+    }
+
+    /**
+     * Business ID name to header name.
+     *
+     * @return String header name.
+     */
+    @Benchmark
+    public String convertIdNameToHeader() {
+        return MdcUtils.convertIdNameToHeader(idName);
+    }
+
+    /**
+     * Header which is sent in different case.
+     *
+     * @return String header value.
+     */
+    @Benchmark
+    public String getHeaderFromRequest() {
+        return MdcUtils.getHeaderFromRequest(request, "X-Execution-Request-Id");
+    }
+
+    /**
+     * Header which is absent, so all headers are checked.
+     *
+     * @return String header value.
+     */
+    @Benchmark
+    public String getAbsentHeaderFromRequest() {
+        return MdcUtils.getHeaderFromRequest(request, "X-Call-Chain-Id");
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.benchmarks.load;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpHeaders;
+import org.qubership.atp.integration.benchmarks.BenchmarkData;
+
+/**
+ * Closed-loop load generator: each thread sends the next request as soon as the previous response is read.
+ * Requests are like the ones forwarded by gateway, see {@link BenchmarkData#gatewayRequest()}.
+ */
+public class LoadGenerator {
+
+    /**
+     * Number of threads sending requests.
+     */
+    private final int threads;
+
+    /**
+     * Warmup duration, ms; latencies aren't recorded during warmup.
+     */
+    private final long warmupMillis;
+
+    /**
+     * Measurement duration, ms.
+     */
+    private final long measurementMillis;
+
+    /**
+     * Create load generator.
+     *
+     * @param threads number of threads sending requests
+     * @param warmupMillis warmup duration, ms
+     * @param measurementMillis measurement duration, ms.
+     */
+    public LoadGenerator(final int threads, final long warmupMillis, final long measurementMillis) {
+        this.threads = threads;
+        this.warmupMillis = warmupMillis;
+        this.measurementMillis = measurementMillis;
+        // Default keep-alive cache holds 5 connections only, so threads above 5 would reconnect on each request.
+        System.setProperty("http.maxConnections", String.valueOf(Math.max(5, threads)));
+    }
+
+    /**
+     * Put load on the application.
+     *
+     * @param scenario LoadTestScenario the application runs
+     * @param port int port of the application
+     * @return LoadTestResult with latencies and throughput measured.
+     * @throws InterruptedException in case the current thread is interrupted.
+     */
+    public LoadTestResult run(final LoadTestScenario scenario, final int port) throws InterruptedException {
+        URL url = toUrl("http://localhost:" + port + "/catalog/api/v1/projects/" + BenchmarkData.PROJECT_ID
+                + "/testplans");
+        Map<String, String> headers = gatewayHeaders();
+        long startNanos = System.nanoTime();
+        long measurementStartNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(warmupMillis);
+        long endNanos = measurementStartNanos + TimeUnit.MILLISECONDS.toNanos(measurementMillis);
+        Worker[] workers = new Worker[threads];
+        CountDownLatch finished = new CountDownLatch(threads);
+        for (int i = 0; i < threads; i++) {
+            workers[i] = new Worker(url, headers, measurementStartNanos, endNanos, finished);
+            Thread thread = new Thread(workers[i], "load-generator-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+        finished.await();
+        int count = 0;
+        long errors = 0;
+        for (Worker worker : workers) {
+            count += worker.count;
+            errors += worker.errors;
+        }
+        long[] latencies = new long[count];
+        int offset = 0;
+        for (Worker worker : workers) {
+            System.arraycopy(worker.latencies, 0, latencies, offset, worker.count);
+            offset += worker.count;
+        }
+        Arrays.sort(latencies);
+        return new LoadTestResult(scenario, latencies, errors, measurementMillis);
+    }
+
+    private static URL toUrl(final String url) {
+        try {
+            return new URL(url);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid URL: " + url, e);
+        }
+    }
+
+    private static Map<String, String> gatewayHeaders() {
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (int i = 0; i < BenchmarkData.FORWARDED_HEADERS; i++) {
+            headers.put("X-Forwarded-Header-" + i, "value-" + i);
+        }
+        headers.put("X-Project-Id", BenchmarkData.PROJECT_ID);
+        headers.put("x-execution-request-id", UUID.randomUUID().toString());
+        headers.put("X-Test-Run-Id", UUID.randomUUID().toString());
+        headers.put(HttpHeaders.USER_AGENT, "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 "
+                + "(KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36");
+        headers.put(HttpHeaders.REFERER, "https://atp.example.com/project/" + BenchmarkData.PROJECT_ID);
+        headers.put(HttpHeaders.AUTHORIZATION, BenchmarkData.userToken());
+        return headers;
+    }
+
+    /**
+     * Thread sending requests one by one over a kept-alive connection.
+     */
+    private static final class Worker implements Runnable {
+
+        /**
+         * URL to request.
+         */
+        private final URL url;
+
+        /**
+         * Request headers.
+         */
+        private final Map<String, String> headers;
+
+        /**
+         * Time since which latencies are recorded, ns.
+         */
+        private final long measurementStartNanos;
+
+        /**
+         * Time the worker stops at, ns.
+         */
+        private final long endNanos;
+
+        /**
+         * Latch counting finished workers.
+         */
+        private final CountDownLatch finished;
+
+        /**
+         * Buffer to read responses into.
+         */
+        private final byte[] buffer = new byte[8192];
+
+        /**
+         * Latencies recorded, ns.
+         */
+        private long[] latencies = new long[1 << 16];
+
+        /**
+         * Number of latencies recorded.
+         */
+        private int count;
+
+        /**
+         * Number of failed requests during measurement.
+         */
+        private long errors;
+
+        private Worker(final URL url, final Map<String, String> headers, final long measurementStartNanos,
+                       final long endNanos, final CountDownLatch finished) {
+            this.url = url;
+            this.headers = headers;
+            this.measurementStartNanos = measurementStartNanos;
+            this.endNanos = endNanos;
+            this.finished = finished;
+        }
+
+        @Override
+        public void run() {
+            try {
+                long start;
+                while ((start = System.nanoTime()) < endNanos) {
+                    boolean succeeded = send();
+                    if (start >= measurementStartNanos) {
+                        if (succeeded) {
+                            record(System.nanoTime() - start);
+                        } else {
+                            errors++;
+                        }
+                    }
+                }
+            } finally {
+                finished.countDown();
+            }
+        }
+
+        private boolean send() {
+            HttpURLConnection connection = null;
+            try {
+                connection = (HttpURLConnection) url.openConnection();
+                for (Map.Entry<String, String> header : headers.entrySet()) {
+                    connection.setRequestProperty(header.getKey(), header.getValue());
+                }
+                int status = connection.getResponseCode();
+                InputStream body = status < HttpURLConnection.HTTP_BAD_REQUEST
+                        ? connection.getInputStream() : connection.getErrorStream();
+                if (body != null) {
+                    // Response is read up to the end, so the connection is kept alive for the next request.
+                    try (InputStream in = body) {
+                        while (in.read(buffer) != -1) {
+                            // skip response body
+                        }
+                    }
+                }
+                return status < HttpURLConnection.HTTP_BAD_REQUEST;
+            } catch (IOException e) {
+                if (connection != null) {
+                    connection.disconnect();
+                }
+                return false;
+            }
+        }
+
+        private void record(final long latency) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count << 1);
+            }
+            latencies[count++] = latency;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.benchmarks.load;
+
+import javax.servlet.Filter;
+
+import org.qubership.atp.integration.benchmarks.DiscardingProducer;
+import org.qubership.atp.integration.configuration.configuration.AuditAction;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Application like TestApplication of the starter, with an audited endpoint to put load on.
+ * Audit logging messages are serialized but not sent anywhere, so no Kafka broker is needed.
+ */
+@SpringBootApplication
+@EnableFeignClients(basePackages = "org.qubership.atp.integration.configuration.feign")
+@EnableAspectJAutoProxy
+public class LoadTestApplication {
+
+    /**
+     * Name of the audit logging producer bean replaced with a discarding one.
+     */
+    private static final String AUDIT_LOGGING_PRODUCER_BEAN = "auditLoggingKafkaProducer";
+
+    /**
+     * Replace audit logging Kafka producer, which needs a broker to create the topic, with a discarding producer.
+     *
+     * @return BeanDefinitionRegistryPostProcessor object.
+     */
+    @Bean
+    public static BeanDefinitionRegistryPostProcessor discardingAuditLoggingProducerPostProcessor() {
+        return new BeanDefinitionRegistryPostProcessor() {
+            @Override
+            public void postProcessBeanDefinitionRegistry(final BeanDefinitionRegistry registry) {
+                if (registry.containsBeanDefinition(AUDIT_LOGGING_PRODUCER_BEAN)) {
+                    registry.removeBeanDefinition(AUDIT_LOGGING_PRODUCER_BEAN);
+                    registry.registerBeanDefinition(AUDIT_LOGGING_PRODUCER_BEAN,
+                            new RootBeanDefinition(DiscardingProducer.class));
+                }
+            }
+
+            @Override
+            public void postProcessBeanFactory(final ConfigurableListableBeanFactory beanFactory) {
+            }
+        };
+    }
+
+    /**
+     * Disable registration of MdcHttpFilter in servlet container if it's toggled off.
+     *
+     * @param mdcHttpFilter MdcHttpFilter bean
+     * @return FilterRegistrationBean disabled.
+     */
+    @Bean
+    @ConditionalOnProperty(value = LoadTestScenario.MDC_HTTP_FILTER_PROPERTY, havingValue = "false")
+    public FilterRegistrationBean<Filter> disabledMdcHttpFilterRegistration(
+            @Qualifier("mdcHttpFilter") final Filter mdcHttpFilter) {
+        FilterRegistrationBean<Filter> registration = new FilterRegistrationBean<>(mdcHttpFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    /**
+     * Run application.
+     *
+     * @param args String[] arguments.
+     */
+    public static void main(final String[] args) {
+        SpringApplication.run(LoadTestApplication.class, args);
+    }
+
+    /**
+     * Endpoint like the ones of ATP services: path with project id, audited, small JSON response.
+     */
+    @RestController
+    public static class TestPlanController {
+
+        /**
+         * Get test plans of project.
+         *
+         * @param projectId String project id
+         * @return String JSON response.
+         */
+        @AuditAction(auditAction = "Get test plans of project {{#projectId}}")
+        @GetMapping("/catalog/api/v1/projects/{projectId}/testplans")
+        public String getTestPlans(@PathVariable("projectId") final String projectId) {
+            return "[{\"projectId\":\"" + projectId + "\",\"name\":\"Regression\"}]";
+        }
+    }
+}
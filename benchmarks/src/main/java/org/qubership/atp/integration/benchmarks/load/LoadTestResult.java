@@ -0,0 +1,144 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.benchmarks.load;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/**
+ * Latencies and throughput measured for a scenario; latencies are in milliseconds.
+ */
+@JsonPropertyOrder({"scenario", "enabledComponents", "requests", "errors", "throughputPerSecond",
+        "latencyMeanMs", "latencyP50Ms", "latencyP90Ms", "latencyP99Ms", "latencyP999Ms", "latencyMaxMs"})
+public class LoadTestResult {
+
+    /**
+     * Scenario measured.
+     */
+    private final LoadTestScenario scenario;
+
+    /**
+     * Latencies of successful requests, ns, sorted.
+     */
+    private final long[] latencies;
+
+    /**
+     * Number of failed requests.
+     */
+    private final long errors;
+
+    /**
+     * Measurement duration, ms.
+     */
+    private final long measurementMillis;
+
+    /**
+     * Create result.
+     *
+     * @param scenario LoadTestScenario measured
+     * @param latencies sorted latencies of successful requests, ns
+     * @param errors number of failed requests
+     * @param measurementMillis measurement duration, ms.
+     */
+    public LoadTestResult(final LoadTestScenario scenario, final long[] latencies, final long errors,
+                          final long measurementMillis) {
+        this.scenario = scenario;
+        this.latencies = latencies;
+        this.errors = errors;
+        this.measurementMillis = measurementMillis;
+    }
+
+    public String getScenario() {
+        return scenario.name();
+    }
+
+    public List<String> getEnabledComponents() {
+        return scenario.getEnabledComponents();
+    }
+
+    public int getRequests() {
+        return latencies.length;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public double getThroughputPerSecond() {
+        return round(latencies.length * 1000d / measurementMillis);
+    }
+
+    /**
+     * Get mean latency.
+     *
+     * @return double latency, ms.
+     */
+    public double getLatencyMeanMs() {
+        if (latencies.length == 0) {
+            return 0;
+        }
+        double sum = 0;
+        for (long latency : latencies) {
+            sum += latency;
+        }
+        return toMillis(sum / latencies.length);
+    }
+
+    public double getLatencyP50Ms() {
+        return percentile(0.5);
+    }
+
+    public double getLatencyP90Ms() {
+        return percentile(0.9);
+    }
+
+    public double getLatencyP99Ms() {
+        return percentile(0.99);
+    }
+
+    public double getLatencyP999Ms() {
+        return percentile(0.999);
+    }
+
+    public double getLatencyMaxMs() {
+        return percentile(1);
+    }
+
+    /**
+     * Get latency percentile by nearest-rank method.
+     *
+     * @param quantile double from 0 to 1
+     * @return double latency, ms, or 0 if nothing is measured.
+     */
+    public double percentile(final double quantile) {
+        if (latencies.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * latencies.length);
+        return toMillis(latencies[Math.max(0, rank - 1)]);
+    }
+
+    private static double toMillis(final double nanos) {
+        return round(nanos / TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    private static double round(final double value) {
+        return Math.round(value * 1000) / 1000d;
+    }
+}
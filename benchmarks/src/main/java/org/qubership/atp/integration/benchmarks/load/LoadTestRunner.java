@@ -0,0 +1,110 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.benchmarks.load;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Runs LoadTestApplication in embedded Tomcat once per scenario, puts load on it
+ * and writes JSON report with latency percentiles and throughput of each scenario.
+ * Options, all optional: --scenarios=BASELINE,ALL --threads=8 --warmup-seconds=10 --measurement-seconds=30
+ * --output=load-test-report.json
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    /**
+     * Run load test.
+     *
+     * @param args String[] options
+     * @throws IOException in case the report can't be written
+     * @throws InterruptedException in case the current thread is interrupted.
+     */
+    public static void main(final String[] args) throws IOException, InterruptedException {
+        Map<String, String> options = parseOptions(args);
+        List<LoadTestScenario> scenarios = options.containsKey("scenarios")
+                ? Arrays.stream(options.get("scenarios").split(","))
+                .map(name -> LoadTestScenario.valueOf(name.trim()))
+                .collect(Collectors.toList())
+                : Arrays.asList(LoadTestScenario.values());
+        int threads = Integer.parseInt(options.getOrDefault("threads", "8"));
+        int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup-seconds", "10"));
+        int measurementSeconds = Integer.parseInt(options.getOrDefault("measurement-seconds", "30"));
+        File output = new File(options.getOrDefault("output", "load-test-report.json"));
+
+        LoadGenerator generator = new LoadGenerator(threads, warmupSeconds * 1000L, measurementSeconds * 1000L);
+        // Code shared by all scenarios (Tomcat, Spring MVC, the load generator) is warmed up once with
+        // all components enabled, so the first scenario measured isn't penalized by JIT compilation.
+        run(LoadTestScenario.ALL, new LoadGenerator(threads, 0, warmupSeconds * 1000L));
+        List<LoadTestResult> results = new ArrayList<>();
+        for (LoadTestScenario scenario : scenarios) {
+            LoadTestResult result = run(scenario, generator);
+            System.out.printf("%-30s %10.1f req/s  p50 %8.3f ms  p99 %8.3f ms  errors %d%n",
+                    result.getScenario(), result.getThroughputPerSecond(), result.getLatencyP50Ms(),
+                    result.getLatencyP99Ms(), result.getErrors());
+            results.add(result);
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("javaVersion", System.getProperty("java.version"));
+        report.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        report.put("threads", threads);
+        report.put("warmupSeconds", warmupSeconds);
+        report.put("measurementSeconds", measurementSeconds);
+        report.put("results", results);
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(output, report);
+        System.out.println("Report is written to " + output.getAbsolutePath());
+    }
+
+    private static LoadTestResult run(final LoadTestScenario scenario, final LoadGenerator generator)
+            throws InterruptedException {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(LoadTestApplication.class)
+                .properties(scenario.getProperties())
+                .run()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            return generator.run(scenario, port);
+        }
+    }
+
+    private static Map<String, String> parseOptions(final String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Option must be like --name=value: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+}
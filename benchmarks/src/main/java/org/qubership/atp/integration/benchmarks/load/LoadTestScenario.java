@@ -0,0 +1,136 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.benchmarks.load;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.qubership.atp.integration.configuration.configuration.AtpWebMetricsConfiguration;
+import org.qubership.atp.integration.configuration.configuration.HttpInterceptorConfiguration;
+
+/**
+ * Sets of starter components enabled for a load test run.
+ */
+public enum LoadTestScenario {
+
+    /**
+     * None of the components, the cost of the application itself.
+     */
+    BASELINE(false, false, false, false),
+
+    /**
+     * MdcHttpFilter only.
+     */
+    MDC_HTTP_FILTER(true, false, false, false),
+
+    /**
+     * AuditLoggingFilter and AuditAspect only.
+     */
+    AUDIT_LOGGING_FILTER(false, true, false, false),
+
+    /**
+     * MdcContextHttpInterceptor only.
+     */
+    MDC_CONTEXT_HTTP_INTERCEPTOR(false, false, true, false),
+
+    /**
+     * CustomWebMvcTagsProvider only; default WebMvcTagsProvider is used otherwise.
+     */
+    WEB_MVC_TAGS_PROVIDER(false, false, false, true),
+
+    /**
+     * All the components, as in services using the starter.
+     */
+    ALL(true, true, true, true);
+
+    /**
+     * Property toggling registration of MdcHttpFilter in servlet container.
+     */
+    public static final String MDC_HTTP_FILTER_PROPERTY = "atp.load-test.mdc-http-filter.enabled";
+
+    /**
+     * Whether MdcHttpFilter is enabled.
+     */
+    private final boolean mdcHttpFilter;
+
+    /**
+     * Whether AuditLoggingFilter is enabled.
+     */
+    private final boolean auditLoggingFilter;
+
+    /**
+     * Whether MdcContextHttpInterceptor is enabled.
+     */
+    private final boolean mdcContextHttpInterceptor;
+
+    /**
+     * Whether CustomWebMvcTagsProvider is enabled.
+     */
+    private final boolean webMvcTagsProvider;
+
+    LoadTestScenario(final boolean mdcHttpFilter, final boolean auditLoggingFilter,
+                     final boolean mdcContextHttpInterceptor, final boolean webMvcTagsProvider) {
+        this.mdcHttpFilter = mdcHttpFilter;
+        this.auditLoggingFilter = auditLoggingFilter;
+        this.mdcContextHttpInterceptor = mdcContextHttpInterceptor;
+        this.webMvcTagsProvider = webMvcTagsProvider;
+    }
+
+    /**
+     * Get names of components enabled.
+     *
+     * @return List of String component names.
+     */
+    public List<String> getEnabledComponents() {
+        List<String> components = new ArrayList<>();
+        if (mdcHttpFilter) {
+            components.add("MdcHttpFilter");
+        }
+        if (auditLoggingFilter) {
+            components.add("AuditLoggingFilter");
+        }
+        if (mdcContextHttpInterceptor) {
+            components.add("MdcContextHttpInterceptor");
+        }
+        if (webMvcTagsProvider) {
+            components.add("CustomWebMvcTagsProvider");
+        }
+        return components;
+    }
+
+    /**
+     * Get application properties toggling the components.
+     *
+     * @return Map of properties.
+     */
+    public Map<String, Object> getProperties() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(MDC_HTTP_FILTER_PROPERTY, mdcHttpFilter);
+        properties.put("atp.audit.logging.enable", auditLoggingFilter);
+        List<String> excluded = new ArrayList<>();
+        if (!mdcContextHttpInterceptor) {
+            excluded.add(HttpInterceptorConfiguration.class.getName());
+        }
+        if (!webMvcTagsProvider) {
+            excluded.add(AtpWebMetricsConfiguration.class.getName());
+        }
+        properties.put("spring.autoconfigure.exclude", String.join(",", excluded));
+        return properties;
+    }
+}
@@ -63,4 +63,12 @@ public @interface AtpJaegerLog {
      * @return MiaSpanTag
      */
     AtpSpanTag[] spanTags() default {};
+
+    /**
+     * Max number of MDC values saved to Span::tag; MDC keys are checked in mdcToTag order
+     * until the budget is spent. Negative value means the global 'atp.jaeger.log.mdc-tag-budget' setting is used.
+     *
+     * @return int
+     */
+    int mdcTagBudget() default -1;
 }
@@ -16,18 +16,28 @@
 
 package org.qubership.atp.integration.configuration.component;
 
-import java.util.Optional;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.reflect.CodeSignature;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.qubership.atp.integration.configuration.annotation.AtpJaegerLog;
 import org.qubership.atp.integration.configuration.annotation.AtpSpanTag;
-import org.slf4j.MDC;
+import org.qubership.atp.integration.configuration.mdc.MdcUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.ast.Literal;
+import org.springframework.expression.spel.standard.SpelExpression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.stereotype.Component;
 
@@ -47,20 +57,47 @@ public class AtpJaegerLogAspect {
 
     /**
      * Expression Parser.
+     * Expressions are compiled to bytecode after first evaluations where possible (MIXED mode).
      */
-    private final ExpressionParser expressionParser = new SpelExpressionParser();
+    private final ExpressionParser expressionParser = new SpelExpressionParser(
+            new SpelParserConfiguration(SpelCompilerMode.MIXED, AtpJaegerLogAspect.class.getClassLoader()));
+
+    /**
+     * Default max number of MDC values saved to span tags; negative value means no limit.
+     */
+    private final int mdcTagBudget;
+
+    /**
+     * Descriptors of methods already invoked.
+     */
+    private final Map<Method, MethodDescriptor> descriptors = new ConcurrentHashMap<>();
 
     /**
      * Constructor.
      *
      * @param tracer Tracer object.
      */
-    public AtpJaegerLogAspect(@Autowired(required = false) final Tracer tracer) {
+    public AtpJaegerLogAspect(final Tracer tracer) {
+        this(tracer, -1);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param tracer Tracer object
+     * @param mdcTagBudget default max number of MDC values saved to span tags; negative value means no limit.
+     */
+    @Autowired
+    public AtpJaegerLogAspect(@Autowired(required = false) final Tracer tracer,
+                              @Value("${atp.jaeger.log.mdc-tag-budget:-1}") final int mdcTagBudget) {
         this.tracer = tracer;
+        this.mdcTagBudget = mdcTagBudget;
     }
 
     /**
      * Additional log to jaeger.
+     * Tags are evaluated only if the span is recorded, so unsampled invocations cost
+     * no more than starting and finishing the noop span.
      *
      * @param joinPoint Join Point to add span to
      * @param atpJaegerLog Jaeger Log Object
@@ -68,50 +105,202 @@ public class AtpJaegerLogAspect {
      */
     @Around(value = "@annotation(atpJaegerLog)")
     public Object jaegerLog(final ProceedingJoinPoint joinPoint, final AtpJaegerLog atpJaegerLog) throws Throwable {
-        Optional<ScopedSpan> nextSpan = Optional.ofNullable(tracer).map(t -> {
-            MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-            return t.startScopedSpan(signature.getDeclaringType().getSimpleName() + "."
-                    + signature.getMethod().getName() + "()");
-        });
+        if (tracer == null) {
+            return joinPoint.proceed();
+        }
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        MethodDescriptor descriptor = descriptors.computeIfAbsent(signature.getMethod(),
+                method -> new MethodDescriptor(signature, atpJaegerLog));
+        ScopedSpan span = tracer.startScopedSpan(descriptor.spanName);
+        if (span.isNoop()) {
+            try {
+                return joinPoint.proceed();
+            } finally {
+                span.finish();
+            }
+        }
         try {
             return joinPoint.proceed();
         } catch (Exception e) {
-            nextSpan.ifPresent(span -> span.error(e));
+            span.error(e);
             throw e;
         } finally {
-            nextSpan.ifPresent(span -> {
-                for (AtpSpanTag spanTag : atpJaegerLog.spanTags()) {
-                    span.tag(spanTag.key(), getValue(joinPoint, spanTag.value()));
+            tag(span, descriptor, joinPoint.getArgs());
+            span.finish();
+        }
+    }
+
+    private void tag(final ScopedSpan span, final MethodDescriptor descriptor, final Object[] args) {
+        for (TagDescriptor spanTag : descriptor.spanTags) {
+            span.tag(spanTag.key, spanTag.getValue(args));
+        }
+        if (descriptor.mdcToTag.length == 0 || descriptor.mdcTagBudget == 0) {
+            return;
+        }
+        Map<String, String> mdc = MdcUtils.getContextMapView();
+        if (mdc == null || mdc.isEmpty()) {
+            return;
+        }
+        if (descriptor.mdcTagBudget < 0 && mdc.size() < descriptor.mdcToTag.length) {
+            for (Map.Entry<String, String> entry : mdc.entrySet()) {
+                if (entry.getValue() != null && descriptor.mdcKeys.contains(entry.getKey())) {
+                    span.tag(entry.getKey(), entry.getValue());
+                }
+            }
+            return;
+        }
+        int budget = descriptor.mdcTagBudget;
+        for (int i = 0; i < descriptor.mdcToTag.length && budget != 0; i++) {
+            String value = mdc.get(descriptor.mdcToTag[i]);
+            if (value != null) {
+                span.tag(descriptor.mdcToTag[i], value);
+                budget--;
+            }
+        }
+    }
+
+    /**
+     * Span name, tags and MDC keys of a method, resolved on first invocation.
+     */
+    private final class MethodDescriptor {
+
+        /**
+         * Name of span, like 'ClassName.methodName()'.
+         */
+        private final String spanName;
+
+        /**
+         * Tags evaluated from method arguments.
+         */
+        private final TagDescriptor[] spanTags;
+
+        /**
+         * MDC keys to put into span tags, in declaration order.
+         */
+        private final String[] mdcToTag;
+
+        /**
+         * MDC keys to put into span tags, to intersect with a small MDC.
+         */
+        private final Set<String> mdcKeys;
+
+        /**
+         * Max number of MDC values put into span tags; negative value means no limit.
+         */
+        private final int mdcTagBudget;
+
+        private MethodDescriptor(final MethodSignature signature, final AtpJaegerLog atpJaegerLog) {
+            this.spanName = signature.getDeclaringType().getSimpleName() + "." + signature.getMethod().getName() + "()";
+            String[] parameterNames = signature.getParameterNames();
+            AtpSpanTag[] tags = atpJaegerLog.spanTags();
+            this.spanTags = new TagDescriptor[tags.length];
+            for (int i = 0; i < tags.length; i++) {
+                spanTags[i] = new TagDescriptor(tags[i].key(), tags[i].value(), parameterNames);
+            }
+            this.mdcToTag = atpJaegerLog.mdcToTag();
+            this.mdcKeys = new HashSet<>(Arrays.asList(mdcToTag));
+            this.mdcTagBudget = atpJaegerLog.mdcTagBudget() >= 0
+                    ? atpJaegerLog.mdcTagBudget() : AtpJaegerLogAspect.this.mdcTagBudget;
+        }
+    }
+
+    /**
+     * Tag of span with its value template resolved to a constant, an argument index or an expression.
+     * A reference to a parameter, like '#name' or '#name.field', is evaluated against the corresponding argument;
+     * any other value is evaluated as an expression against arguments array,
+     * and is used as is if it can't be parsed or evaluated. An expression referring to neither arguments
+     * nor variables, like plain text 'value', which fails to evaluate is kept as a constant since then,
+     * so it isn't evaluated and failed on each invocation.
+     */
+    private final class TagDescriptor {
+
+        /**
+         * Key of tag.
+         */
+        private final String key;
+
+        /**
+         * Value template as declared in annotation.
+         */
+        private final String argument;
+
+        /**
+         * Index of argument if value is a plain reference to a parameter; otherwise -1.
+         */
+        private final int argumentIndex;
+
+        /**
+         * Parsed expression, or null if value is a constant or a plain reference to a parameter.
+         */
+        private volatile Expression expression;
+
+        /**
+         * Whether the expression may refer to arguments or variables, so its failure may depend on arguments.
+         */
+        private final boolean argumentDependent;
+
+        /**
+         * Constant value, used if both argumentIndex and expression are not set.
+         */
+        private final String constant;
+
+        private TagDescriptor(final String key, final String argument, final String[] parameterNames) {
+            this.key = key;
+            this.argument = argument;
+            String expressionString = argument;
+            int index = -1;
+            if (argument.startsWith("#") && parameterNames != null) {
+                for (int id = 0; id < parameterNames.length; id++) {
+                    String reference = "#" + parameterNames[id];
+                    if (argument.equals(reference)) {
+                        index = id;
+                        break;
+                    }
+                    if (argument.startsWith(reference + ".")) {
+                        expressionString = "[" + id + "]" + argument.substring(reference.length());
+                        break;
+                    }
                 }
-                for (String mdcSpan : atpJaegerLog.mdcToTag()) {
-                    if (MDC.get(mdcSpan) != null) {
-                        span.tag(mdcSpan, MDC.get(mdcSpan));
+            }
+            this.argumentIndex = index;
+            Expression parsed = null;
+            String constantValue = argument;
+            if (index < 0) {
+                try {
+                    parsed = expressionParser.parseExpression(expressionString);
+                    if (parsed instanceof SpelExpression && ((SpelExpression) parsed).getAST() instanceof Literal) {
+                        constantValue = toTagValue(parsed.getValue());
+                        parsed = null;
                     }
+                } catch (Exception e) {
+                    parsed = null;
                 }
-                span.finish();
-            });
+            }
+            this.expression = parsed;
+            this.constant = constantValue;
+            this.argumentDependent = expressionString.indexOf('#') >= 0 || expressionString.indexOf('[') >= 0;
         }
-    }
 
-    private String getValue(final ProceedingJoinPoint joinPoint, final String argument) {
-        Object[] args = joinPoint.getArgs();
-        if (argument.startsWith("#")) {
-            String[] parametersNames = ((CodeSignature) joinPoint.getSignature()).getParameterNames();
-            for (int id = 0; id < parametersNames.length; id++) {
-                if (argument.startsWith("#" + parametersNames[id] + ".")
-                        || argument.equals("#" + parametersNames[id])) {
-                    return parseExpression(args, argument.replaceFirst("#" + parametersNames[id], "[" + id + "]"));
+        private String getValue(final Object[] args) {
+            if (argumentIndex >= 0) {
+                return argumentIndex < args.length ? toTagValue(args[argumentIndex]) : argument;
+            }
+            Expression parsed = expression;
+            if (parsed == null) {
+                return constant;
+            }
+            try {
+                return toTagValue(parsed.getValue(args));
+            } catch (Exception e) {
+                if (!argumentDependent) {
+                    expression = null;
                 }
+                return argument;
             }
         }
-        return parseExpression(args, argument);
-    }
 
-    private String parseExpression(final Object[] args, final String argument) {
-        try {
-            return (String) expressionParser.parseExpression(argument).getValue(args);
-        } catch (Exception e) {
-            return argument;
+        private String toTagValue(final Object value) {
+            return value == null || value instanceof String ? (String) value : argument;
         }
     }
 }
@@ -16,15 +16,25 @@
 
 package org.qubership.atp.integration.configuration.configuration;
 
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Before;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.qubership.atp.integration.configuration.mdc.MdcField;
 import org.qubership.atp.integration.configuration.mdc.MdcUtils;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.common.LiteralExpression;
 import org.springframework.expression.common.TemplateParserContext;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.stereotype.Component;
@@ -40,7 +50,19 @@ import lombok.extern.slf4j.Slf4j;
 public class AuditAspect {
 
     public static final TemplateParserContext TEMPLATE_PARSER_CONTEXT = new TemplateParserContext("{{", "}}");
-    public static final ExpressionParser EXPRESSION_PARSER = new SpelExpressionParser();
+
+    /**
+     * Parser of audit action templates.
+     * Expressions are compiled to bytecode after first evaluations where possible (MIXED mode),
+     * and fall back to interpretation if compiled code fails.
+     */
+    public static final ExpressionParser EXPRESSION_PARSER = new SpelExpressionParser(
+            new SpelParserConfiguration(SpelCompilerMode.MIXED, AuditAspect.class.getClassLoader()));
+
+    /**
+     * Audit actions of methods already invoked.
+     */
+    private final Map<Method, AuditActionTemplate> templates = new ConcurrentHashMap<>();
 
     /**
      * Update audit action.
@@ -50,19 +72,47 @@ public class AuditAspect {
         log.debug("Capture user action");
         try {
             MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-            AuditAction annotation = (AuditAction) signature.getMethod().getAnnotation(AuditAction.class);
-            String[] parameterNames = signature.getParameterNames();
-            EvaluationContext evaluationContext = new StandardEvaluationContext();
-            Object[] args = joinPoint.getArgs();
+            AuditActionTemplate template = templates.computeIfAbsent(signature.getMethod(),
+                    method -> new AuditActionTemplate(method, signature.getParameterNames()));
+            MdcUtils.put(MdcField.USER_ACTION.toString(), template.getValue(joinPoint.getArgs()));
+        } catch (Exception e) {
+            log.error("Can not update audit action trace:", e);
+        }
+    }
 
+    /**
+     * Parsed audit action template of a method with names of its parameters.
+     */
+    private static final class AuditActionTemplate {
+
+        /**
+         * Parsed template expression.
+         */
+        private final Expression expression;
+
+        /**
+         * Names of method parameters available in the template as variables.
+         */
+        private final String[] parameterNames;
+
+        private AuditActionTemplate(final Method method, final String[] parameterNames) {
+            AuditAction annotation = AnnotationUtils.findAnnotation(method, AuditAction.class);
+            if (annotation == null) {
+                throw new IllegalStateException("Method " + method + " isn't annotated with AuditAction");
+            }
+            this.expression = EXPRESSION_PARSER.parseExpression(annotation.auditAction(), TEMPLATE_PARSER_CONTEXT);
+            this.parameterNames = parameterNames;
+        }
+
+        private String getValue(final Object[] args) {
+            if (expression instanceof LiteralExpression) {
+                return expression.getValue(String.class);
+            }
+            EvaluationContext evaluationContext = new StandardEvaluationContext();
             for (int i = 0; i < args.length; ++i) {
                 evaluationContext.setVariable(parameterNames[i], args[i]);
             }
-            String value = EXPRESSION_PARSER.parseExpression(annotation.auditAction(), TEMPLATE_PARSER_CONTEXT)
-                    .getValue(evaluationContext, String.class);
-            MdcUtils.put("userAction", value);
-        } catch (Exception e) {
-            log.error("Can not update audit action trace:", e);
+            return expression.getValue(evaluationContext, String.class);
         }
     }
 }
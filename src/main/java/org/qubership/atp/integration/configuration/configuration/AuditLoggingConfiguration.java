@@ -16,29 +16,35 @@
 
 package org.qubership.atp.integration.configuration.configuration;
 
-import java.util.Properties;
+import java.util.Map;
 import java.util.UUID;
 
-import javax.servlet.Filter;
-
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.UUIDSerializer;
 import org.qubership.atp.integration.configuration.filters.AuditLoggingFilter;
 import org.qubership.atp.integration.configuration.helpers.HttpRequestParseHelper;
 import org.qubership.atp.integration.configuration.helpers.JwtParseHelper;
 import org.qubership.atp.integration.configuration.helpers.KafkaAdminHelper;
+import org.qubership.atp.integration.configuration.interceptors.MdcKafkaProducerInterceptor;
+import org.qubership.atp.integration.configuration.mdc.BusinessIdRegistry;
 import org.qubership.atp.integration.configuration.protos.KafkaAuditLoggingMessage.AuditLoggingMessage;
 import org.qubership.atp.integration.configuration.serializers.KafkaProtobufSerializer;
+import org.qubership.atp.integration.configuration.service.AuditLoggingQueue;
 import org.qubership.atp.integration.configuration.service.AuditLoggingService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
 
+import io.micrometer.core.instrument.binder.kafka.KafkaClientMetrics;
+
 @ConditionalOnProperty(value = "atp.audit.logging.enable", havingValue = "true")
 @EnableAspectJAutoProxy
+@EnableConfigurationProperties(AuditLoggingProducerProperties.class)
 @ComponentScan("org.qubership.atp.integration.configuration")
 @ComponentScan("org.qubership.atp.integration.configuration.*")
 public class AuditLoggingConfiguration {
@@ -67,25 +73,83 @@ public class AuditLoggingConfiguration {
     @Value("${atp.reporting.kafka.producer.bootstrap-server}")
     private String bootstrapServers;
 
+    /**
+     * Max number of audit logging events waiting to be sent.
+     */
+    @Value("${atp.audit.logging.async.queue.capacity:10000}")
+    private int queueCapacity;
+
+    /**
+     * Policy applied when audit logging events queue is full.
+     */
+    @Value("${atp.audit.logging.async.overflow-policy:DROP_NEWEST}")
+    private AuditLoggingQueue.OverflowPolicy overflowPolicy;
+
+    /**
+     * Max time to wait for free space in the queue with BLOCK overflow policy, in milliseconds.
+     */
+    @Value("${atp.audit.logging.async.block-timeout-ms:50}")
+    private long blockTimeoutMs;
+
+    /**
+     * Max number of audit logging events sent by the worker at once.
+     */
+    @Value("${atp.audit.logging.async.batch-size:100}")
+    private int batchSize;
+
+    /**
+     * Whether business IDs of MDC are propagated by Kafka record headers.
+     */
+    @Value("${atp.logging.kafka.mdc.enabled:true}")
+    private boolean kafkaMdcEnabled;
+
+    /**
+     * Whether UUID business IDs are written to Kafka record headers as binary rather than UTF-8 strings.
+     */
+    @Value("${atp.logging.kafka.mdc.binary-uuid:false}")
+    private boolean kafkaMdcBinaryUuid;
+
     /**
      * Create and configure Kafka audit logging producer.
      * Also, create or update topic according configuration settings.
      *
      * @param kafkaAdminHelper bean
+     * @param producerProperties audit logging producer settings
+     * @param businessIdRegistry BusinessIdRegistry bean
      * @return new KafkaProducer configured.
      */
     @Bean
-    public KafkaProducer<UUID, AuditLoggingMessage> auditLoggingKafkaProducer(final KafkaAdminHelper kafkaAdminHelper) {
+    public KafkaProducer<UUID, AuditLoggingMessage> auditLoggingKafkaProducer(
+            final KafkaAdminHelper kafkaAdminHelper,
+            final AuditLoggingProducerProperties producerProperties,
+            final BusinessIdRegistry businessIdRegistry) {
         kafkaAdminHelper.createOrUpdateTopic(topic, partitions, replicas);
 
-        Properties properties = new Properties();
-        properties.setProperty("bootstrap.servers", bootstrapServers);
-        properties.setProperty("key.serializer", UUIDSerializer.class.getName());
-        properties.setProperty("value.serializer", KafkaProtobufSerializer.class.getName());
+        Map<String, Object> properties = producerProperties.buildProducerProperties();
+        properties.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        properties.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, UUIDSerializer.class.getName());
+        properties.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, KafkaProtobufSerializer.class.getName());
+        if (kafkaMdcEnabled) {
+            MdcKafkaProducerInterceptor.addTo(properties, businessIdRegistry, kafkaMdcBinaryUuid);
+        }
 
         return new KafkaProducer<>(properties);
     }
 
+    /**
+     * Create binder of audit logging producer metrics (record-send-rate, batch-size-avg and others)
+     * into Micrometer.
+     *
+     * @param producer Audit Logging Message producer
+     * @return new KafkaClientMetrics for the producer.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(value = "atp.audit.logging.producer.metrics-enabled", havingValue = "true",
+            matchIfMissing = true)
+    public KafkaClientMetrics auditLoggingKafkaProducerMetrics(final Producer<UUID, AuditLoggingMessage> producer) {
+        return new KafkaClientMetrics(producer);
+    }
+
     /**
      * Create auditLoggingService bean.
      *
@@ -101,6 +165,22 @@ public class AuditLoggingConfiguration {
         return new AuditLoggingService(producer, jwtHelper, requestHelper);
     }
 
+    /**
+     * Create auditLoggingQueue bean, so audit logging messages are built and sent
+     * by a dedicated worker instead of request threads.
+     *
+     * @param auditLoggingService AuditLoggingService bean
+     * @return new AuditLoggingQueue bean attached to auditLoggingService.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(value = "atp.audit.logging.async.enabled", havingValue = "true")
+    public AuditLoggingQueue auditLoggingQueue(final AuditLoggingService auditLoggingService) {
+        AuditLoggingQueue queue = new AuditLoggingQueue(queueCapacity, overflowPolicy, blockTimeoutMs, batchSize,
+                auditLoggingService::loggingEvent);
+        auditLoggingService.setAuditLoggingQueue(queue);
+        return queue;
+    }
+
     /**
      * Create new Filter bean.
      *
@@ -109,8 +189,8 @@ public class AuditLoggingConfiguration {
      * @return new AuditLoggingFilter bean constructed with auditLoggingService and jwtHelper parameters.
      */
     @Bean
-    public Filter auditLoggingFilter(final AuditLoggingService auditLoggingService,
-                                     final JwtParseHelper jwtHelper) {
+    public AuditLoggingFilter auditLoggingFilter(final AuditLoggingService auditLoggingService,
+                                                 final JwtParseHelper jwtHelper) {
         return new AuditLoggingFilter(auditLoggingService, jwtHelper);
     }
 }
@@ -0,0 +1,111 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.configuration.configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Settings of the audit logging Kafka producer.
+ * Defaults favor throughput: audit messages are small, numerous and not latency sensitive,
+ * so they are batched for a short time and compressed.
+ */
+@Data
+@ConfigurationProperties(prefix = "atp.audit.logging.producer")
+public class AuditLoggingProducerProperties {
+
+    /**
+     * Number of acknowledgments the producer requires; idempotence requires 'all'.
+     */
+    private String acks = "all";
+
+    /**
+     * Compression type of record batches: none, gzip, snappy, lz4 or zstd.
+     */
+    private String compressionType = "lz4";
+
+    /**
+     * Time to wait for more records before sending a batch, in milliseconds.
+     */
+    private int lingerMs = 20;
+
+    /**
+     * Max size of a batch of records per partition, in bytes.
+     */
+    private int batchSize = 64 * 1024;
+
+    /**
+     * Total memory the producer can use to buffer records, in bytes.
+     */
+    private long bufferMemory = 32 * 1024 * 1024L;
+
+    /**
+     * Whether the producer writes exactly one copy of each record on retries.
+     */
+    private boolean enableIdempotence = true;
+
+    /**
+     * Max number of unacknowledged requests per connection; must not exceed 5 with idempotence.
+     */
+    private int maxInFlightRequestsPerConnection = 5;
+
+    /**
+     * Upper bound on the time to report success or failure of a send, in milliseconds.
+     */
+    private int deliveryTimeoutMs = 120000;
+
+    /**
+     * Max time to block in send() when metadata is unavailable or the buffer is full, in milliseconds.
+     */
+    private long maxBlockMs = 60000;
+
+    /**
+     * Whether producer metrics are bound to Micrometer.
+     */
+    private boolean metricsEnabled = true;
+
+    /**
+     * Additional producer properties, passed to the producer as is.
+     */
+    private Map<String, String> properties = new HashMap<>();
+
+    /**
+     * Build producer configuration.
+     * Additional properties take precedence over the typed ones.
+     *
+     * @return Map of producer configuration properties.
+     */
+    public Map<String, Object> buildProducerProperties() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ProducerConfig.ACKS_CONFIG, acks);
+        config.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        config.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        config.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        config.put(ProducerConfig.BUFFER_MEMORY_CONFIG, bufferMemory);
+        config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, enableIdempotence);
+        config.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, maxInFlightRequestsPerConnection);
+        config.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, deliveryTimeoutMs);
+        config.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, maxBlockMs);
+        config.putAll(properties);
+        return config;
+    }
+}
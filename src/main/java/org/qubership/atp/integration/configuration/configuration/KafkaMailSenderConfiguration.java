@@ -25,6 +25,9 @@ import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.UUIDDeserializer;
 import org.apache.kafka.common.serialization.UUIDSerializer;
+import org.qubership.atp.integration.configuration.interceptors.MdcKafkaProducerInterceptor;
+import org.qubership.atp.integration.configuration.interceptors.MdcKafkaRecordInterceptor;
+import org.qubership.atp.integration.configuration.mdc.BusinessIdRegistry;
 import org.qubership.atp.integration.configuration.model.KafkaMailResponse;
 import org.qubership.atp.integration.configuration.model.MailRequest;
 import org.springframework.beans.factory.annotation.Value;
@@ -73,6 +76,19 @@ public class KafkaMailSenderConfiguration {
     @Value("${kafka.mails.compression.type:lz4}")
     public String compressionType;
 
+    /**
+     * Max time (in milliseconds) to get acknowledgement of a mail request, including retries.
+     */
+    @Value("${kafka.mails.delivery.timeout.ms:120000}")
+    private int deliveryTimeoutMs;
+
+    /**
+     * Max time (in milliseconds) sending of a mail request may block the calling thread,
+     * waiting for topic metadata or free buffer memory.
+     */
+    @Value("${kafka.mails.max.block.ms:60000}")
+    private int maxBlockMs;
+
     /**
      * Kafka Producer Bootstrap Server URL.
      */
@@ -85,6 +101,18 @@ public class KafkaMailSenderConfiguration {
     @Value("${kafka.mails.responses.group.id}")
     private String groupId;
 
+    /**
+     * Whether business IDs of MDC are propagated by Kafka record headers.
+     */
+    @Value("${atp.logging.kafka.mdc.enabled:true}")
+    private boolean kafkaMdcEnabled;
+
+    /**
+     * Whether UUID business IDs are written to Kafka record headers as binary rather than UTF-8 strings.
+     */
+    @Value("${atp.logging.kafka.mdc.binary-uuid:false}")
+    private boolean kafkaMdcBinaryUuid;
+
     /**
      * Create or update topic for mail request.
      *
@@ -102,34 +130,47 @@ public class KafkaMailSenderConfiguration {
     /**
      * Create new KafkaTemplate.
      *
+     * @param businessIdRegistry BusinessIdRegistry bean
      * @return new KafkaTemplate configured with producerConfig().
      */
     @Bean
-    public KafkaTemplate<UUID, MailRequest> kafkaTemplate() {
-        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(producerConfig()));
+    public KafkaTemplate<UUID, MailRequest> kafkaTemplate(final BusinessIdRegistry businessIdRegistry) {
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(producerConfig(businessIdRegistry)));
     }
 
     /**
      * Create factory for KafkaListener for mail responses.
      *
+     * @param businessIdRegistry BusinessIdRegistry bean
      * @return ConcurrentKafkaListenerContainerFactory
      */
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<UUID, KafkaMailResponse> kafkaListenerContainerFactory() {
+    public ConcurrentKafkaListenerContainerFactory<UUID, KafkaMailResponse> kafkaListenerContainerFactory(
+            final BusinessIdRegistry businessIdRegistry) {
         ConcurrentKafkaListenerContainerFactory<UUID, KafkaMailResponse> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(consumerConfig(),
                 new UUIDDeserializer(), new JsonDeserializer<>(KafkaMailResponse.class)));
+        if (kafkaMdcEnabled) {
+            factory.setRecordInterceptor(new MdcKafkaRecordInterceptor<>(businessIdRegistry));
+        }
         return factory;
     }
 
-    private Map<String, Object> producerConfig() {
+    private Map<String, Object> producerConfig(final BusinessIdRegistry businessIdRegistry) {
         Map<String, Object> props = new HashMap<>();
         props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaServers);
         props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, UUIDSerializer.class);
         props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
         props.put(ProducerConfig.MAX_REQUEST_SIZE_CONFIG, messageSize);
         props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        props.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, deliveryTimeoutMs);
+        // delivery timeout must not be less than request timeout (30 seconds by default)
+        props.put(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG, Math.min(deliveryTimeoutMs, 30000));
+        props.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, maxBlockMs);
+        if (kafkaMdcEnabled) {
+            MdcKafkaProducerInterceptor.addTo(props, businessIdRegistry, kafkaMdcBinaryUuid);
+        }
         return props;
     }
 
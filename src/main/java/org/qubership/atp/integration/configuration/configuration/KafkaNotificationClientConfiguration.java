@@ -24,6 +24,8 @@ import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.qubership.atp.integration.configuration.helpers.KafkaAdminHelper;
+import org.qubership.atp.integration.configuration.interceptors.MdcKafkaProducerInterceptor;
+import org.qubership.atp.integration.configuration.mdc.BusinessIdRegistry;
 import org.qubership.atp.integration.configuration.model.notification.Message;
 import org.qubership.atp.integration.configuration.notification.client.KafkaNotificationClient;
 import org.qubership.atp.integration.configuration.notification.client.NotificationClient;
@@ -71,6 +73,18 @@ public class KafkaNotificationClientConfiguration {
     @Value("${spring.kafka.producer.bootstrap-servers}")
     private String bootstrapServers;
 
+    /**
+     * Whether business IDs of MDC are propagated by Kafka record headers.
+     */
+    @Value("${atp.logging.kafka.mdc.enabled:true}")
+    private boolean kafkaMdcEnabled;
+
+    /**
+     * Whether UUID business IDs are written to Kafka record headers as binary rather than UTF-8 strings.
+     */
+    @Value("${atp.logging.kafka.mdc.binary-uuid:false}")
+    private boolean kafkaMdcBinaryUuid;
+
     /**
      * Configure kafka admin.
      *
@@ -97,14 +111,18 @@ public class KafkaNotificationClientConfiguration {
     /**
      * Creates new producer factory.
      *
+     * @param businessIdRegistry BusinessIdRegistry bean
      * @return new producer factory
      */
     @Bean
-    public ProducerFactory<String, Message> producerFactory() {
+    public ProducerFactory<String, Message> producerFactory(final BusinessIdRegistry businessIdRegistry) {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
         configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        if (kafkaMdcEnabled) {
+            MdcKafkaProducerInterceptor.addTo(configProps, businessIdRegistry, kafkaMdcBinaryUuid);
+        }
         return new DefaultKafkaProducerFactory<>(configProps);
     }
 
@@ -112,12 +130,14 @@ public class KafkaNotificationClientConfiguration {
      * Create KafkaTemplate bean.
      *
      * @param kafkaAdminHelper KafkaAdminHelper bean
+     * @param producerFactory ProducerFactory bean
      * @return new KafkaTemplate object.
      */
     @Bean
-    public KafkaTemplate<String, Message> kafkaTemplate(final KafkaAdminHelper kafkaAdminHelper) {
+    public KafkaTemplate<String, Message> kafkaTemplate(final KafkaAdminHelper kafkaAdminHelper,
+                                                        final ProducerFactory<String, Message> producerFactory) {
         kafkaAdminHelper.createOrUpdateTopic(kafkaTopic, kafkaPartitions, kafkaReplicas);
-        return new KafkaTemplate<>(producerFactory());
+        return new KafkaTemplate<>(producerFactory);
     }
 
     /**
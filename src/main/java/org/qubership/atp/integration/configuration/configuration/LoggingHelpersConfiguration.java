@@ -21,10 +21,13 @@ import javax.servlet.Filter;
 import org.qubership.atp.integration.configuration.filters.MdcHttpFilter;
 import org.qubership.atp.integration.configuration.helpers.HttpRequestParseHelper;
 import org.qubership.atp.integration.configuration.helpers.JwtParseHelper;
+import org.qubership.atp.integration.configuration.helpers.JwtTokenCache;
 import org.qubership.atp.integration.configuration.helpers.StompHelper;
-import org.qubership.atp.integration.configuration.mdc.MdcUtils;
+import org.qubership.atp.integration.configuration.mdc.BusinessIdRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -39,6 +42,18 @@ public class LoggingHelpersConfiguration {
             + "itfLiteRequestId,reportType,itfSessionId,itfContextId,callChainId}")
     private String businessIds;
 
+    /**
+     * Maximum number of authorization tokens kept in the token data cache.
+     */
+    @Value("${atp.logging.jwt.cache.max-size:1000}")
+    private int jwtCacheMaxSize;
+
+    /**
+     * Maximum time (in seconds) to keep token data in the cache, even if the token isn't expired yet.
+     */
+    @Value("${atp.logging.jwt.cache.max-ttl-seconds:300}")
+    private long jwtCacheMaxTtlSeconds;
+
     /**
      * Create businessIdsString bean.
      *
@@ -50,6 +65,16 @@ public class LoggingHelpersConfiguration {
         return businessIds;
     }
 
+    /**
+     * Create businessIdRegistry bean.
+     *
+     * @return new BusinessIdRegistry object configured for businessIds.
+     */
+    @Bean
+    public BusinessIdRegistry businessIdRegistry() {
+        return BusinessIdRegistry.of(businessIds);
+    }
+
     /**
      * Create httpRequestParseHelper bean.
      *
@@ -60,14 +85,26 @@ public class LoggingHelpersConfiguration {
         return new HttpRequestParseHelper();
     }
 
+    /**
+     * Create jwtTokenCache bean.
+     *
+     * @return new JwtTokenCache object configured.
+     */
+    @Bean
+    @ConditionalOnProperty(value = "atp.logging.jwt.cache.enabled", havingValue = "true")
+    public JwtTokenCache jwtTokenCache() {
+        return new JwtTokenCache(jwtCacheMaxSize, jwtCacheMaxTtlSeconds);
+    }
+
     /**
      * Create jwtParseHelper bean.
      *
+     * @param jwtTokenCache Provider of JwtTokenCache bean, if token data caching is enabled
      * @return new JwtParseHelper object.
      */
     @Bean
-    public JwtParseHelper jwtParseHelper() {
-        return new JwtParseHelper();
+    public JwtParseHelper jwtParseHelper(final ObjectProvider<JwtTokenCache> jwtTokenCache) {
+        return new JwtParseHelper(jwtTokenCache.getIfAvailable());
     }
 
     /**
@@ -84,10 +121,11 @@ public class LoggingHelpersConfiguration {
      * Create mdcHttpFilter bean.
      *
      * @param jwtParseHelper JwtParseHelper bean
+     * @param businessIdRegistry BusinessIdRegistry bean
      * @return new MdcHttpFilter object configured for businessIds.
      */
     @Bean
-    public Filter mdcHttpFilter(final JwtParseHelper jwtParseHelper) {
-        return new MdcHttpFilter(jwtParseHelper, MdcUtils.convertIdNamesToList(businessIds));
+    public Filter mdcHttpFilter(final JwtParseHelper jwtParseHelper, final BusinessIdRegistry businessIdRegistry) {
+        return new MdcHttpFilter(jwtParseHelper, businessIdRegistry);
     }
 }
@@ -16,31 +16,174 @@
 
 package org.qubership.atp.integration.configuration.configuration;
 
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Paths;
 import java.util.UUID;
+import java.util.function.Supplier;
 
+import org.qubership.atp.integration.configuration.feign.FeignClientSettings;
 import org.qubership.atp.integration.configuration.feign.MailSenderFeignClient;
 import org.qubership.atp.integration.configuration.model.MailRequest;
+import org.qubership.atp.integration.configuration.service.FileSystemMailBlobStore;
+import org.qubership.atp.integration.configuration.service.MailBlobStore;
+import org.qubership.atp.integration.configuration.service.MailSenderMetrics;
+import org.qubership.atp.integration.configuration.service.MailSenderMultipartClient;
+import org.qubership.atp.integration.configuration.service.MailSenderRestExecutor;
 import org.qubership.atp.integration.configuration.service.MailSenderService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerClient;
+import org.springframework.cloud.openfeign.FeignContext;
+import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.util.StringUtils;
+
+import feign.Target;
 
 @Configuration
 @Import({KafkaMailSenderConfiguration.class, MultipartSupportConfiguration.class})
 public class MailSenderConfiguration {
 
+    /**
+     * URL of mail-sender; if empty, mail-sender instance is chosen by load balancer.
+     */
+    @Value("${feign.atp.mailsender.url:}")
+    private String mailSenderUrl;
+
+    /**
+     * Service name of mail-sender.
+     */
+    @Value("${feign.atp.mailsender.name:atp-mail-sender}")
+    private String mailSenderName;
+
+    /**
+     * Route of mail-sender.
+     */
+    @Value("${feign.atp.mailsender.route:}")
+    private String mailSenderRoute;
+
+    /**
+     * Number of threads running REST requests of asynchronous sending.
+     */
+    @Value("${feign.atp.mailsender.async.pool-size:" + MailSenderService.DEFAULT_REST_POOL_SIZE + "}")
+    private int restPoolSize;
+
+    /**
+     * Max number of queued REST requests of asynchronous sending.
+     */
+    @Value("${feign.atp.mailsender.async.queue-capacity:" + MailSenderService.DEFAULT_REST_QUEUE_CAPACITY + "}")
+    private int restQueueCapacity;
+
+    /**
+     * Size of chunks of streamed attachments request body (in bytes).
+     */
+    @Value("${feign.atp.mailsender.streaming.chunk-size:65536}")
+    private int streamingChunkSize;
+
+    /**
+     * Create mailSenderMetrics bean.
+     *
+     * @return new MailSenderMetrics object.
+     */
+    @Bean
+    public MailSenderMetrics mailSenderMetrics() {
+        return new MailSenderMetrics();
+    }
+
+    /**
+     * Create mailSenderMultipartClient bean streaming attachments to mail-sender,
+     * if 'feign.atp.mailsender.streaming.enabled' is true.
+     * It takes request options, request interceptors, error decoder and retryer of the mail-sender Feign client
+     * from its Feign context. Requests go to mail-sender URL or, if it isn't set, to an instance chosen by
+     * the load balancer client of the Feign context, like Feign requests.
+     *
+     * @param applicationContext ApplicationContext holding Feign client properties
+     * @param feignContext FeignContext of Feign clients
+     * @return new MailSenderMultipartClient object configured.
+     */
+    @Bean
+    @ConditionalOnMissingBean(MailSenderMultipartClient.class)
+    @ConditionalOnProperty(name = "feign.atp.mailsender.streaming.enabled", havingValue = "true")
+    public MailSenderMultipartClient mailSenderMultipartClient(final ApplicationContext applicationContext,
+                                                               final FeignContext feignContext) {
+        Supplier<URI> baseUri;
+        String targetUrl;
+        if (StringUtils.hasText(mailSenderUrl)) {
+            targetUrl = mailSenderUrl.startsWith("http") ? mailSenderUrl : "http://" + mailSenderUrl;
+            URI uri = URI.create(targetUrl);
+            baseUri = () -> uri;
+        } else {
+            targetUrl = "http://" + mailSenderName;
+            URI uri = URI.create(targetUrl);
+            LoadBalancerClient loadBalancerClient = feignContext.getInstance(mailSenderName,
+                    LoadBalancerClient.class);
+            baseUri = loadBalancerClient == null ? () -> uri : () -> {
+                ServiceInstance instance = loadBalancerClient.choose(mailSenderName);
+                if (instance == null) {
+                    throw new IllegalStateException("No instances of " + mailSenderName + " are available");
+                }
+                return loadBalancerClient.reconstructURI(instance, uri);
+            };
+        }
+        return new MailSenderMultipartClient(baseUri, mailSenderRoute,
+                new Target.HardCodedTarget<>(MailSenderFeignClient.class, mailSenderName, targetUrl),
+                FeignClientSettings.resolve(applicationContext, feignContext, MailSenderFeignClient.class,
+                        mailSenderName),
+                streamingChunkSize);
+    }
+
+    /**
+     * Create mailBlobStore bean keeping large mails and attachments sent by claim-check in a directory
+     * shared with mail-sender.
+     *
+     * @param directory String path of directory of blobs
+     * @return new FileSystemMailBlobStore object.
+     * @throws IOException in case the directory can't be created.
+     */
+    @Bean
+    @ConditionalOnMissingBean(MailBlobStore.class)
+    @ConditionalOnPropertyNotEmpty("kafka.mails.claim-check.directory")
+    public MailBlobStore mailBlobStore(@Value("${kafka.mails.claim-check.directory}") final String directory)
+            throws IOException {
+        return new FileSystemMailBlobStore(Paths.get(directory));
+    }
+
+    /**
+     * Create mailSenderRestExecutor bean running REST requests of asynchronous sending,
+     * shut down with the context, so queued requests are sent.
+     *
+     * @return new MailSenderRestExecutor object.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public MailSenderRestExecutor mailSenderRestExecutor() {
+        return new MailSenderRestExecutor(restPoolSize, restQueueCapacity);
+    }
+
     /**
      * Create mailSenderService bean.
      *
      * @param mailSenderFeignClient FeignClient for mailSender
+     * @param mailSenderRestExecutor MailSenderRestExecutor bean to run REST requests of asynchronous sending
+     * @param mailSenderMetrics MailSenderMetrics bean
+     * @param mailSenderMultipartClient MailSenderMultipartClient bean streaming attachments, if any
      * @return new MailSenderService object configured.
      */
     @Bean
     @ConditionalOnProperty(name = "kafka.mails.enable", havingValue = "false", matchIfMissing = true)
-    public MailSenderService mailSenderService(final MailSenderFeignClient mailSenderFeignClient) {
-        return new MailSenderService(null, mailSenderFeignClient);
+    public MailSenderService mailSenderService(final MailSenderFeignClient mailSenderFeignClient,
+                                               final MailSenderRestExecutor mailSenderRestExecutor,
+                                               final MailSenderMetrics mailSenderMetrics,
+                                               final ObjectProvider<MailSenderMultipartClient>
+                                                       mailSenderMultipartClient) {
+        return new MailSenderService(null, mailSenderFeignClient, mailSenderRestExecutor.getExecutor(),
+                mailSenderMetrics, mailSenderMultipartClient.getIfAvailable(), null);
     }
 
     /**
@@ -48,13 +191,24 @@ public class MailSenderConfiguration {
      *
      * @param kafkaTemplate KafkaTemplate bean
      * @param mailSenderFeignClient FeignClient for mailSender
+     * @param mailSenderRestExecutor MailSenderRestExecutor bean to run REST requests of asynchronous sending
+     * @param mailSenderMetrics MailSenderMetrics bean
+     * @param mailSenderMultipartClient MailSenderMultipartClient bean streaming attachments, if any
+     * @param mailBlobStore MailBlobStore bean to send large mails and attachments by claim-check, if any
      * @return new MailSenderService object configured.
      */
     @Bean
     @ConditionalOnProperty(name = "kafka.mails.enable", havingValue = "true")
     public MailSenderService mailSenderServiceWithKafka(final KafkaTemplate<UUID, MailRequest> kafkaTemplate,
-                                                        final MailSenderFeignClient mailSenderFeignClient) {
-        return new MailSenderService(kafkaTemplate, mailSenderFeignClient);
+                                                        final MailSenderFeignClient mailSenderFeignClient,
+                                                        final MailSenderRestExecutor mailSenderRestExecutor,
+                                                        final MailSenderMetrics mailSenderMetrics,
+                                                        final ObjectProvider<MailSenderMultipartClient>
+                                                                mailSenderMultipartClient,
+                                                        final ObjectProvider<MailBlobStore> mailBlobStore) {
+        return new MailSenderService(kafkaTemplate, mailSenderFeignClient,
+                mailSenderRestExecutor.getExecutor(), mailSenderMetrics,
+                mailSenderMultipartClient.getIfAvailable(), mailBlobStore.getIfAvailable());
     }
 
 }
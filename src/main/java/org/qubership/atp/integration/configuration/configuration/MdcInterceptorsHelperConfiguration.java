@@ -20,7 +20,7 @@ import org.qubership.atp.integration.configuration.helpers.JwtParseHelper;
 import org.qubership.atp.integration.configuration.helpers.StompHelper;
 import org.qubership.atp.integration.configuration.interceptors.FeignClientMdcContextInterceptor;
 import org.qubership.atp.integration.configuration.interceptors.MdcChannelInterceptor;
-import org.springframework.beans.factory.annotation.Qualifier;
+import org.qubership.atp.integration.configuration.mdc.BusinessIdRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -30,13 +30,13 @@ public class MdcInterceptorsHelperConfiguration {
     /**
      * Create feignClientMdcContextInterceptor bean.
      *
-     * @param businessIds String list of business IDs delimited with comma
+     * @param businessIdRegistry BusinessIdRegistry bean
      * @return new FeignClientMdcContextInterceptor object configured for businessIds.
      */
     @Bean
     public FeignClientMdcContextInterceptor feignClientMdcContextInterceptor(
-            @Qualifier("businessIdsString") final String businessIds) {
-        return new FeignClientMdcContextInterceptor(businessIds);
+            final BusinessIdRegistry businessIdRegistry) {
+        return new FeignClientMdcContextInterceptor(businessIdRegistry);
     }
 
     /**
@@ -44,13 +44,13 @@ public class MdcInterceptorsHelperConfiguration {
      *
      * @param stompHelper StompHelper bean
      * @param jwtParseHelper JwtParseHelper bean
-     * @param businessIds String list of business IDs delimited with comma
+     * @param businessIdRegistry BusinessIdRegistry bean
      * @return new MdcChannelInterceptor object configured for businessIds.
      */
     @Bean
     public MdcChannelInterceptor mdcChannelInterceptor(final StompHelper stompHelper,
                                                        final JwtParseHelper jwtParseHelper,
-                                                       @Qualifier("businessIdsString") final String businessIds) {
-        return new MdcChannelInterceptor(stompHelper, jwtParseHelper, businessIds);
+                                                       final BusinessIdRegistry businessIdRegistry) {
+        return new MdcChannelInterceptor(stompHelper, jwtParseHelper, businessIdRegistry);
     }
 }
@@ -0,0 +1,140 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.configuration.configuration;
+
+import java.util.concurrent.ExecutorService;
+
+import org.qubership.atp.integration.configuration.decorators.MdcTaskDecorator;
+import org.qubership.atp.integration.configuration.decorators.VirtualThreads;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+
+@Configuration
+@AutoConfigureBefore(TaskExecutionAutoConfiguration.class)
+public class MdcTaskExecutionConfiguration {
+
+    /**
+     * Create mdcTaskDecorator bean, applied by Spring Boot to the application task executor,
+     * so @Async methods run with MDC of the calling thread.
+     *
+     * @return new MdcTaskDecorator object.
+     */
+    @Bean
+    @ConditionalOnMissingBean(TaskDecorator.class)
+    @ConditionalOnProperty(value = "atp.logging.mdc.task-decorator.enabled", havingValue = "true",
+            matchIfMissing = true)
+    public MdcTaskDecorator mdcTaskDecorator() {
+        return new MdcTaskDecorator();
+    }
+
+    /**
+     * Virtual threads for @Async methods and Tomcat request processing, if enabled and supported by the JVM.
+     */
+    @Configuration
+    @ConditionalOnProperty(value = "atp.logging.mdc.virtual-threads.enabled", havingValue = "true")
+    @Conditional(VirtualThreadsConfiguration.OnVirtualThreadsSupportedCondition.class)
+    public static class VirtualThreadsConfiguration {
+
+        /**
+         * Create executor service starting a virtual thread per task with MDC of the thread submitting the task.
+         *
+         * @return new ExecutorService object.
+         */
+        @Bean(destroyMethod = "shutdown")
+        public ExecutorService atpVirtualThreadExecutorService() {
+            return VirtualThreads.newVirtualThreadPerTaskExecutor("atp-virtual-");
+        }
+
+        /**
+         * Create application task executor running @Async methods on virtual threads,
+         * instead of the thread pool executor configured by Spring Boot.
+         *
+         * @param atpVirtualThreadExecutorService ExecutorService bean
+         * @return new AsyncTaskExecutor object.
+         */
+        @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+                AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+        @ConditionalOnMissingBean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+                AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+        public AsyncTaskExecutor applicationTaskExecutor(
+                @Qualifier("atpVirtualThreadExecutorService") final ExecutorService atpVirtualThreadExecutorService) {
+            return new TaskExecutorAdapter(atpVirtualThreadExecutorService);
+        }
+
+        /**
+         * Create executor service of Tomcat requests. Tomcat doesn't manage an external executor,
+         * so it's shut down with the context, after the web server is stopped.
+         *
+         * @return new ExecutorService object.
+         */
+        @Bean(destroyMethod = "shutdown")
+        @ConditionalOnClass(name = "org.apache.catalina.startup.Tomcat")
+        @ConditionalOnProperty(value = "atp.logging.mdc.virtual-threads.tomcat.enabled", havingValue = "true",
+                matchIfMissing = true)
+        public ExecutorService atpTomcatVirtualThreadExecutorService() {
+            return VirtualThreads.newVirtualThreadPerTaskExecutor("tomcat-handler-");
+        }
+
+        /**
+         * Create customizer processing Tomcat requests on virtual threads.
+         *
+         * @param atpTomcatVirtualThreadExecutorService ExecutorService bean of Tomcat requests
+         * @return new WebServerFactoryCustomizer object.
+         */
+        @Bean
+        @ConditionalOnClass(name = "org.apache.catalina.startup.Tomcat")
+        @ConditionalOnProperty(value = "atp.logging.mdc.virtual-threads.tomcat.enabled", havingValue = "true",
+                matchIfMissing = true)
+        public WebServerFactoryCustomizer<TomcatServletWebServerFactory> virtualThreadsTomcatCustomizer(
+                @Qualifier("atpTomcatVirtualThreadExecutorService")
+                final ExecutorService atpTomcatVirtualThreadExecutorService) {
+            return factory -> factory.addProtocolHandlerCustomizers(protocolHandler ->
+                    protocolHandler.setExecutor(atpTomcatVirtualThreadExecutorService));
+        }
+
+        static class OnVirtualThreadsSupportedCondition implements Condition {
+
+            /**
+             * Check if virtual threads are supported by the JVM.
+             *
+             * @param context  the condition context
+             * @param metadata the metadata of the class being checked
+             * @return true if virtual threads are supported; otherwise false.
+             */
+            @Override
+            public boolean matches(final ConditionContext context, final AnnotatedTypeMetadata metadata) {
+                return VirtualThreads.isSupported();
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.configuration.decorators;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Executor running each task with MDC of the thread submitting it, then restoring MDC of the running thread.
+ * Wraps ForkJoinPool.commonPool() or any other executor:
+ * <pre>{@code
+ * Executor executor = new MdcExecutor(ForkJoinPool.commonPool());
+ * CompletableFuture.supplyAsync(this::buildReport, executor);
+ * }</pre>
+ * Note that dependent CompletableFuture stages are submitted by the thread completing the previous stage,
+ * so functions of such stages should be wrapped by {@link MdcPropagation} instead.
+ */
+public class MdcExecutor implements Executor {
+
+    /**
+     * Executor running tasks.
+     */
+    private final Executor delegate;
+
+    /**
+     * Create executor.
+     *
+     * @param delegate Executor running tasks.
+     */
+    public MdcExecutor(final Executor delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+        delegate.execute(MdcPropagation.runnable(command));
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.configuration.decorators;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.qubership.atp.integration.configuration.mdc.MdcSnapshot;
+
+/**
+ * Wrappers carrying MDC of the current thread into tasks run by CompletableFuture, ForkJoinPool and parallel streams.
+ * MDC is captured once, when a task is wrapped, as an immutable snapshot.
+ * A wrapped task restores MDC its thread had before, since it may run on the calling thread:
+ * parallel streams and CompletableFuture stages run some of the work on the calling thread.
+ * <pre>{@code
+ * CompletableFuture<Report> report = MdcPropagation.supplyAsync(() -> buildReport(testRun));
+ * List<Row> rows = testRuns.parallelStream().map(MdcPropagation.function(this::toRow)).collect(toList());
+ * }</pre>
+ */
+public final class MdcPropagation {
+
+    private MdcPropagation() {
+    }
+
+    /**
+     * Wrap task, so it runs with MDC of the current thread.
+     *
+     * @param task Runnable to wrap
+     * @return Runnable wrapped.
+     */
+    public static Runnable runnable(final Runnable task) {
+        return MdcSnapshot.capture().wrap(task);
+    }
+
+    /**
+     * Wrap task, so it runs with MDC of the current thread.
+     *
+     * @param task Callable to wrap
+     * @param <T> type of task result
+     * @return Callable wrapped.
+     */
+    public static <T> Callable<T> callable(final Callable<T> task) {
+        return MdcSnapshot.capture().wrap(task);
+    }
+
+    /**
+     * Wrap supplier, so it runs with MDC of the current thread.
+     *
+     * @param supplier Supplier to wrap
+     * @param <T> type of supplier result
+     * @return Supplier wrapped.
+     */
+    public static <T> Supplier<T> supplier(final Supplier<T> supplier) {
+        return MdcSnapshot.capture().wrapSupplier(supplier);
+    }
+
+    /**
+     * Wrap function, so it runs with MDC of the current thread.
+     *
+     * @param function Function to wrap
+     * @param <T> type of function argument
+     * @param <R> type of function result
+     * @return Function wrapped.
+     */
+    public static <T, R> Function<T, R> function(final Function<T, R> function) {
+        return MdcSnapshot.capture().wrapFunction(function);
+    }
+
+    /**
+     * Wrap function, so it runs with MDC of the current thread.
+     *
+     * @param function BiFunction to wrap
+     * @param <T> type of the first function argument
+     * @param <U> type of the second function argument
+     * @param <R> type of function result
+     * @return BiFunction wrapped.
+     */
+    public static <T, U, R> BiFunction<T, U, R> biFunction(final BiFunction<T, U, R> function) {
+        return MdcSnapshot.capture().wrapBiFunction(function);
+    }
+
+    /**
+     * Wrap consumer, so it runs with MDC of the current thread.
+     *
+     * @param consumer Consumer to wrap
+     * @param <T> type of consumer argument
+     * @return Consumer wrapped.
+     */
+    public static <T> Consumer<T> consumer(final Consumer<T> consumer) {
+        return MdcSnapshot.capture().wrapConsumer(consumer);
+    }
+
+    /**
+     * Wrap executor, so each task runs with MDC of the thread submitting it.
+     * Suits ForkJoinPool.commonPool() and other executors tasks are submitted to directly.
+     *
+     * @param executor Executor to wrap
+     * @return MdcExecutor object.
+     */
+    public static Executor executor(final Executor executor) {
+        return new MdcExecutor(executor);
+    }
+
+    /**
+     * Run supplier asynchronously in ForkJoinPool.commonPool() with MDC of the current thread.
+     *
+     * @param supplier Supplier to run
+     * @param <T> type of supplier result
+     * @return CompletableFuture completed with supplier result.
+     */
+    public static <T> CompletableFuture<T> supplyAsync(final Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(supplier(supplier));
+    }
+
+    /**
+     * Run supplier asynchronously by executor with MDC of the current thread.
+     *
+     * @param supplier Supplier to run
+     * @param executor Executor to run supplier
+     * @param <T> type of supplier result
+     * @return CompletableFuture completed with supplier result.
+     */
+    public static <T> CompletableFuture<T> supplyAsync(final Supplier<T> supplier, final Executor executor) {
+        return CompletableFuture.supplyAsync(supplier(supplier), executor);
+    }
+
+    /**
+     * Run task asynchronously in ForkJoinPool.commonPool() with MDC of the current thread.
+     *
+     * @param task Runnable to run
+     * @return CompletableFuture completed when the task completes.
+     */
+    public static CompletableFuture<Void> runAsync(final Runnable task) {
+        return CompletableFuture.runAsync(runnable(task));
+    }
+
+    /**
+     * Run task asynchronously by executor with MDC of the current thread.
+     *
+     * @param task Runnable to run
+     * @param executor Executor to run the task
+     * @return CompletableFuture completed when the task completes.
+     */
+    public static CompletableFuture<Void> runAsync(final Runnable task, final Executor executor) {
+        return CompletableFuture.runAsync(runnable(task), executor);
+    }
+}
@@ -16,29 +16,20 @@
 
 package org.qubership.atp.integration.configuration.decorators;
 
-import java.util.Map;
-
-import org.slf4j.MDC;
+import org.qubership.atp.integration.configuration.mdc.MdcSnapshot;
 import org.springframework.core.task.TaskDecorator;
 
 public class MdcTaskDecorator implements TaskDecorator {
 
     /**
      * A class for copying MDC contexts between threads. Must be added for async executor tasks.
+     * MDC is captured as an immutable snapshot, so neither decorating nor running the task copies the MDC map.
+     * MDC the running thread had before is restored after the task, instead of being cleared,
+     * so tasks run by the submitting thread (CallerRunsPolicy) don't wipe MDC of the request.
      * @param runnable the original {@code Runnable}
      */
     @Override
     public Runnable decorate(final Runnable runnable) {
-        Map<String, String> contextMap = MDC.getCopyOfContextMap();
-        return () -> {
-            try {
-                if (contextMap != null) {
-                    MDC.setContextMap(contextMap);
-                }
-                runnable.run();
-            } finally {
-                MDC.clear();
-            }
-        };
+        return MdcSnapshot.capture().wrap(runnable);
     }
 }
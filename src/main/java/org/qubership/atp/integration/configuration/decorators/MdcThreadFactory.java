@@ -0,0 +1,48 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.configuration.decorators;
+
+import java.util.concurrent.ThreadFactory;
+
+import org.qubership.atp.integration.configuration.mdc.MdcSnapshot;
+
+/**
+ * ThreadFactory creating threads which run with MDC of the thread creating them.
+ * Suits thread-per-task executors, like the virtual thread per task executor,
+ * which create a thread for each task on the thread submitting the task.
+ */
+public class MdcThreadFactory implements ThreadFactory {
+
+    /**
+     * ThreadFactory creating threads.
+     */
+    private final ThreadFactory delegate;
+
+    /**
+     * Create thread factory.
+     *
+     * @param delegate ThreadFactory creating threads.
+     */
+    public MdcThreadFactory(final ThreadFactory delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Thread newThread(final Runnable runnable) {
+        return delegate.newThread(MdcSnapshot.capture().wrap(runnable));
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.configuration.decorators;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Factories of virtual threads propagating MDC.
+ * Virtual threads are created by reflection, since the starter is compiled for Java 8;
+ * they are supported since Java 21.
+ */
+public final class VirtualThreads {
+
+    /**
+     * Thread.ofVirtual() method, or null if virtual threads aren't supported.
+     */
+    private static final Method OF_VIRTUAL = findOfVirtual();
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Check whether virtual threads are supported by the JVM.
+     *
+     * @return true if virtual threads are supported.
+     */
+    public static boolean isSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * Create factory of virtual threads running with MDC of the thread creating them.
+     *
+     * @param namePrefix String prefix of thread names, followed by a thread number
+     * @return ThreadFactory object.
+     * @throws UnsupportedOperationException in case virtual threads aren't supported.
+     */
+    public static ThreadFactory newThreadFactory(final String namePrefix) {
+        return new MdcThreadFactory(newVirtualThreadFactory(namePrefix));
+    }
+
+    /**
+     * Create executor starting a new virtual thread for each task; tasks run with MDC of the thread submitting them.
+     *
+     * @param namePrefix String prefix of thread names, followed by a thread number
+     * @return ExecutorService object.
+     * @throws UnsupportedOperationException in case virtual threads aren't supported.
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor(final String namePrefix) {
+        ThreadFactory threadFactory = newThreadFactory(namePrefix);
+        try {
+            Method newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor",
+                    ThreadFactory.class);
+            return (ExecutorService) newThreadPerTaskExecutor.invoke(null, threadFactory);
+        } catch (ReflectiveOperationException e) {
+            throw new UnsupportedOperationException("Virtual threads aren't supported", e);
+        }
+    }
+
+    private static ThreadFactory newVirtualThreadFactory(final String namePrefix) {
+        if (OF_VIRTUAL == null) {
+            throw new UnsupportedOperationException("Virtual threads aren't supported by Java "
+                    + System.getProperty("java.version"));
+        }
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = OF_VIRTUAL.invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            throw new UnsupportedOperationException("Virtual threads aren't supported", e);
+        }
+    }
+
+    private static Method findOfVirtual() {
+        try {
+            Method ofVirtual = Thread.class.getMethod("ofVirtual");
+            // Virtual threads are a preview feature of Java 19 and 20, disabled by default.
+            ofVirtual.invoke(null);
+            return ofVirtual;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
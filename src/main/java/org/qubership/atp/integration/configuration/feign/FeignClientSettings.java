@@ -0,0 +1,134 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+
+package org.qubership.atp.integration.configuration.feign;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.cloud.openfeign.FeignBuilderCustomizer;
+import org.springframework.cloud.openfeign.FeignClientFactoryBean;
+import org.springframework.cloud.openfeign.FeignContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+
+import feign.Feign;
+import feign.Request;
+import feign.RequestInterceptor;
+import feign.Retryer;
+import feign.codec.ErrorDecoder;
+import lombok.Getter;
+
+/**
+ * Settings of a Feign client: request options, request interceptors, error decoder and retryer.
+ * They are resolved by {@link FeignClientFactoryBean} from the named Feign context of the client
+ * and 'feign.client.config' properties, exactly as for the Feign client itself,
+ * so a client which can't be built by Feign, like one streaming the request body, behaves the same way.
+ */
+@Getter
+public final class FeignClientSettings {
+
+    /**
+     * Request options: connect and read timeouts, following redirects.
+     */
+    private final Request.Options options;
+
+    /**
+     * Request interceptors in order of application.
+     */
+    private final List<RequestInterceptor> requestInterceptors;
+
+    /**
+     * Error decoder of non-2xx responses.
+     */
+    private final ErrorDecoder errorDecoder;
+
+    /**
+     * Retryer, to be cloned for each request.
+     */
+    private final Retryer retryer;
+
+    /**
+     * Constructor.
+     *
+     * @param options Request.Options of requests
+     * @param requestInterceptors List of request interceptors in order of application
+     * @param errorDecoder ErrorDecoder of non-2xx responses
+     * @param retryer Retryer, to be cloned for each request.
+     */
+    public FeignClientSettings(final Request.Options options,
+                               final List<RequestInterceptor> requestInterceptors,
+                               final ErrorDecoder errorDecoder,
+                               final Retryer retryer) {
+        this.options = options;
+        this.requestInterceptors = Collections.unmodifiableList(new ArrayList<>(requestInterceptors));
+        this.errorDecoder = errorDecoder;
+        this.retryer = retryer;
+    }
+
+    /**
+     * Resolve settings of Feign client.
+     *
+     * @param applicationContext ApplicationContext holding FeignClientProperties
+     * @param feignContext FeignContext of Feign clients
+     * @param type Class of Feign client interface
+     * @param name String name (context id) of Feign client
+     * @return FeignClientSettings resolved.
+     */
+    public static FeignClientSettings resolve(final ApplicationContext applicationContext,
+                                              final FeignContext feignContext,
+                                              final Class<?> type,
+                                              final String name) {
+        SettingsFactoryBean factoryBean = new SettingsFactoryBean();
+        factoryBean.setApplicationContext(applicationContext);
+        factoryBean.setType(type);
+        factoryBean.setName(name);
+        factoryBean.setContextId(name);
+        return factoryBean.configure(feignContext).toSettings();
+    }
+
+    /**
+     * Factory bean of Feign client configuring a builder which settings can be read.
+     */
+    private static final class SettingsFactoryBean extends FeignClientFactoryBean {
+
+        private SettingsBuilder configure(final FeignContext context) {
+            SettingsBuilder builder = new SettingsBuilder();
+            configureFeign(context, builder);
+            Map<String, FeignBuilderCustomizer> customizers = context.getInstances(getContextId(),
+                    FeignBuilderCustomizer.class);
+            if (customizers != null) {
+                List<FeignBuilderCustomizer> sorted = new ArrayList<>(customizers.values());
+                AnnotationAwareOrderComparator.sort(sorted);
+                sorted.forEach(customizer -> customizer.customize(builder));
+            }
+            return builder;
+        }
+    }
+
+    /**
+     * Feign builder exposing settings configured.
+     */
+    private static final class SettingsBuilder extends Feign.Builder {
+
+        private FeignClientSettings toSettings() {
+            return new FeignClientSettings(options, requestInterceptors, errorDecoder, retryer);
+        }
+    }
+}
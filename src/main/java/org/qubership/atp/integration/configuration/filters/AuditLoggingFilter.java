@@ -17,7 +17,7 @@
 package org.qubership.atp.integration.configuration.filters;
 
 import java.io.IOException;
-import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
@@ -26,17 +26,26 @@ import javax.servlet.http.HttpServletResponse;
 
 import org.apache.http.HttpHeaders;
 import org.qubership.atp.integration.configuration.helpers.JwtParseHelper;
+import org.qubership.atp.integration.configuration.mdc.MdcField;
 import org.qubership.atp.integration.configuration.service.AuditLoggingService;
 import org.slf4j.MDC;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @RequiredArgsConstructor
-public class AuditLoggingFilter extends OncePerRequestFilter {
+public class AuditLoggingFilter extends OncePerRequestFilter implements MeterBinder {
+
+    /**
+     * Name of MDC tag for user action.
+     */
+    private static final String USER_ACTION = MdcField.USER_ACTION.toString();
 
     /**
      * AuditLoggingService bean.
@@ -48,8 +57,30 @@ public class AuditLoggingFilter extends OncePerRequestFilter {
      */
     private final JwtParseHelper jwtParseHelper;
 
+    /**
+     * Number of requests passed to audit logging service.
+     */
+    private final AtomicLong emitted = new AtomicLong();
+
+    /**
+     * Number of requests skipped because no user action was captured.
+     */
+    private final AtomicLong skippedNoAction = new AtomicLong();
+
+    /**
+     * Number of requests skipped because of empty Authorization token.
+     */
+    private final AtomicLong skippedNoToken = new AtomicLong();
+
+    /**
+     * Number of requests skipped because of M2M Authorization token.
+     */
+    private final AtomicLong skippedM2M = new AtomicLong();
+
     /**
      * Handler to perform audit logging of request.
+     * The request is logged only if a user action was captured by AuditAction annotation during the request,
+     * so other requests cost nothing but MDC lookup.
      *
      * @param request HttpServletRequest received
      * @param response HttpServletResponse to be sent
@@ -62,21 +93,26 @@ public class AuditLoggingFilter extends OncePerRequestFilter {
                                     final HttpServletResponse response,
                                     final FilterChain filterChain) throws ServletException, IOException {
         log.debug("Intercept request for audit logging");
-        final String authToken = request.getHeader(HttpHeaders.AUTHORIZATION);
-        final String url = request.getRequestURI();
-        Map<String, String> copyOfContextMap = MDC.getCopyOfContextMap();
-        if (copyOfContextMap != null) {
-            copyOfContextMap.remove("userAction");
-        }
+        MDC.remove(USER_ACTION);
         log.debug("Continue request filter chain");
         filterChain.doFilter(request, response);
+        final String url = request.getRequestURI();
+        if (MDC.get(USER_ACTION) == null) {
+            skippedNoAction.incrementAndGet();
+            log.debug("Audit logging was skipped for the '{}' request because user action isn't captured", url);
+            return;
+        }
+        final String authToken = request.getHeader(HttpHeaders.AUTHORIZATION);
         if (!StringUtils.hasLength(authToken)) {
+            skippedNoToken.incrementAndGet();
             log.debug("Audit logging was skipped for the '{}' request because of empty Authorization token", url);
         } else {
             try {
-                if (jwtParseHelper.isM2Mtoken(authToken)) {
+                if (jwtParseHelper.isM2Mtoken(request, authToken)) {
+                    skippedM2M.incrementAndGet();
                     log.debug("Audit logging was skipped for the '{}' request because of M2M Authorization token", url);
                 } else {
+                    emitted.incrementAndGet();
                     auditLoggingService.loggingRequest(request, response);
                 }
             } catch (Exception e) {
@@ -84,4 +120,28 @@ public class AuditLoggingFilter extends OncePerRequestFilter {
             }
         }
     }
+
+    /**
+     * Register counters of emitted and skipped audit logging events.
+     *
+     * @param registry MeterRegistry to register metrics in.
+     */
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        registerCounter(registry, emitted, "emitted", "none");
+        registerCounter(registry, skippedNoAction, "skipped", "no_action");
+        registerCounter(registry, skippedNoToken, "skipped", "no_token");
+        registerCounter(registry, skippedM2M, "skipped", "m2m_token");
+    }
+
+    private static void registerCounter(final MeterRegistry registry,
+                                        final AtomicLong counter,
+                                        final String result,
+                                        final String reason) {
+        FunctionCounter.builder("atp.audit.logging.events", counter, AtomicLong::get)
+                .description("Number of requests intercepted for audit logging")
+                .tag("result", result)
+                .tag("reason", reason)
+                .register(registry);
+    }
 }
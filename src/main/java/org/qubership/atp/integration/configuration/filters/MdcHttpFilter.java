@@ -17,8 +17,8 @@
 package org.qubership.atp.integration.configuration.filters;
 
 import java.io.IOException;
+import java.util.Enumeration;
 import java.util.List;
-import java.util.UUID;
 
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
@@ -28,6 +28,9 @@ import javax.servlet.http.HttpServletResponse;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.HttpHeaders;
 import org.qubership.atp.integration.configuration.helpers.JwtParseHelper;
+import org.qubership.atp.integration.configuration.helpers.TokenIdentity;
+import org.qubership.atp.integration.configuration.mdc.BusinessId;
+import org.qubership.atp.integration.configuration.mdc.BusinessIdRegistry;
 import org.qubership.atp.integration.configuration.mdc.MdcField;
 import org.qubership.atp.integration.configuration.mdc.MdcUtils;
 import org.slf4j.MDC;
@@ -35,11 +38,9 @@ import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
-@RequiredArgsConstructor
 @Order(Ordered.HIGHEST_PRECEDENCE)
 public class MdcHttpFilter extends OncePerRequestFilter {
 
@@ -49,9 +50,30 @@ public class MdcHttpFilter extends OncePerRequestFilter {
     private final JwtParseHelper jwtParseHelper;
 
     /**
-     * List of String business IDs.
+     * Registry of business IDs.
      */
-    private final List<String> businessIds;
+    private final BusinessIdRegistry businessIdRegistry;
+
+    /**
+     * Constructor.
+     *
+     * @param jwtParseHelper JwtParseHelper bean
+     * @param businessIdRegistry BusinessIdRegistry bean.
+     */
+    public MdcHttpFilter(final JwtParseHelper jwtParseHelper, final BusinessIdRegistry businessIdRegistry) {
+        this.jwtParseHelper = jwtParseHelper;
+        this.businessIdRegistry = businessIdRegistry;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param jwtParseHelper JwtParseHelper bean
+     * @param businessIds List of String business IDs.
+     */
+    public MdcHttpFilter(final JwtParseHelper jwtParseHelper, final List<String> businessIds) {
+        this(jwtParseHelper, BusinessIdRegistry.of(businessIds));
+    }
 
     /**
      * Handler to perform auth token processing of request.
@@ -67,22 +89,54 @@ public class MdcHttpFilter extends OncePerRequestFilter {
                                     final HttpServletResponse response,
                                     final FilterChain filterChain) throws ServletException, IOException {
         MDC.clear();
-        businessIds.forEach(idName -> processHeaders(request, idName));
+        processHeaders(request);
         processUserId(request);
         filterChain.doFilter(request, response);
     }
 
-    private void processHeaders(final HttpServletRequest request, final String idName) {
-        MdcUtils.put(idName, MdcUtils.getHeaderFromRequest(request, MdcUtils.convertIdNameToHeader(idName)));
+    /**
+     * Put business IDs from request headers into MDC.
+     * Request headers are enumerated once and matched against the registry ignoring case;
+     * if the same header is sent in different cases, the first one wins.
+     *
+     * @param request HttpServletRequest to process.
+     */
+    private void processHeaders(final HttpServletRequest request) {
+        if (businessIdRegistry.isEmpty()) {
+            return;
+        }
+        final Enumeration<String> headerNames = request.getHeaderNames();
+        if (headerNames == null) {
+            return;
+        }
+        final String[] values = new String[businessIdRegistry.size()];
+        int found = 0;
+        while (headerNames.hasMoreElements() && found < values.length) {
+            final String headerName = headerNames.nextElement();
+            final BusinessId businessId = businessIdRegistry.findByHeader(headerName);
+            if (businessId != null && values[businessId.getIndex()] == null) {
+                final String value = request.getHeader(headerName);
+                if (value != null) {
+                    values[businessId.getIndex()] = value;
+                    found++;
+                }
+            }
+        }
+        if (found > 0) {
+            for (BusinessId businessId : businessIdRegistry.getBusinessIds()) {
+                MdcUtils.put(businessId.getName(), values[businessId.getIndex()]);
+            }
+        }
     }
 
     private void processUserId(final HttpServletRequest request) {
         final String authToken = request.getHeader(HttpHeaders.AUTHORIZATION);
         if (authToken != null && StringUtils.startsWithIgnoreCase(authToken, "Bearer ")) {
             try {
-                final UUID userId = jwtParseHelper.getUserIdFromNonM2MToken(authToken);
-                if (userId != null) {
-                    MdcUtils.put(MdcField.USER_ID.toString(), userId);
+                final TokenIdentity identity = jwtParseHelper.getNonM2MTokenIdentity(request, authToken);
+                if (identity != null) {
+                    // Malformed 'sub' claim fails here and is logged below.
+                    MdcUtils.put(MdcField.USER_ID.toString(), identity.getValidUserIdString());
                 }
             } catch (Exception e) {
                 log.error("Error while getting userId from token", e);
@@ -16,15 +16,22 @@
 
 package org.qubership.atp.integration.configuration.helpers;
 
+import java.io.IOException;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 
+import javax.servlet.http.HttpServletRequest;
+
 import org.apache.commons.lang3.StringUtils;
-import org.springframework.boot.json.JsonParser;
 import org.springframework.boot.json.JsonParserFactory;
 import org.springframework.security.jwt.JwtHelper;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -40,6 +47,11 @@ public class JwtParseHelper {
      */
     public static final String BLANK_TOKEN_ERROR = "Blank authorization token error";
 
+    /**
+     * Name of request attribute holding the token claims parsed during the current request.
+     */
+    public static final String TOKEN_CLAIMS_ATTRIBUTE = JwtParseHelper.class.getName() + ".TOKEN_CLAIMS";
+
     /**
      * Name of property with session id value.
      */
@@ -60,6 +72,37 @@ public class JwtParseHelper {
      */
     private static final String CLIENT_ID_KEY = "clientId";
 
+    /**
+     * Name of property with expiration time value.
+     */
+    private static final String EXPIRATION_KEY = "exp";
+
+    /**
+     * Factory of streaming parsers for token claims.
+     */
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /**
+     * Cache of token claims shared between requests; null if caching is disabled.
+     */
+    private final JwtTokenCache tokenCache;
+
+    /**
+     * Constructor of helper without token claims caching.
+     */
+    public JwtParseHelper() {
+        this(null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param tokenCache JwtTokenCache to keep token claims between requests; null to disable caching.
+     */
+    public JwtParseHelper(final JwtTokenCache tokenCache) {
+        this.tokenCache = tokenCache;
+    }
+
     /**
      * Detect if current auth token is M2M.
      *
@@ -67,7 +110,20 @@ public class JwtParseHelper {
      * @return true if it's M2M token; otherwise false.
      */
     public boolean isM2Mtoken(final String token) {
-        return StringUtils.isNotBlank(getValueFromTokenByKey(token, CLIENT_ID_KEY));
+        TokenClaims tokenClaims = getTokenClaimsFromToken(token);
+        return tokenClaims != null && tokenClaims.isM2M();
+    }
+
+    /**
+     * Detect if current auth token is M2M, reusing the token claims already parsed for the request.
+     *
+     * @param request HttpServletRequest the token belongs to
+     * @param token String token to parse
+     * @return true if it's M2M token; otherwise false.
+     */
+    public boolean isM2Mtoken(final HttpServletRequest request, final String token) {
+        TokenClaims tokenClaims = getTokenClaimsFromRequest(request, token);
+        return tokenClaims != null && tokenClaims.isM2M();
     }
 
     /**
@@ -77,7 +133,8 @@ public class JwtParseHelper {
      * @return UUID session id.
      */
     public UUID getSessionIdFromToken(final String token) {
-        return UUID.fromString(Objects.requireNonNull(getValueFromTokenByKey(token, SESSION_STATE_KEY)));
+        TokenClaims tokenClaims = getTokenClaimsFromToken(token);
+        return Objects.requireNonNull(tokenClaims == null ? null : tokenClaims.getIdentity().getSessionId());
     }
 
     /**
@@ -92,6 +149,16 @@ public class JwtParseHelper {
         return UUID.fromString(Objects.requireNonNull(sessionIdKey));
     }
 
+    /**
+     * Get session id attribute from Token Claims.
+     *
+     * @param tokenClaims TokenClaims parsed
+     * @return UUID session id.
+     */
+    public UUID getSessionIdFromTokenClaims(final TokenClaims tokenClaims) {
+        return Objects.requireNonNull(tokenClaims.getIdentity().getSessionId());
+    }
+
     /**
      * Get username attribute from JWT token.
      *
@@ -99,7 +166,8 @@ public class JwtParseHelper {
      * @return String username.
      */
     public String getUsernameFromToken(final String token) {
-        return getValueFromTokenByKey(token, NAME_KEY);
+        TokenClaims tokenClaims = getTokenClaimsFromToken(token);
+        return tokenClaims == null ? null : tokenClaims.getUsername();
     }
 
     /**
@@ -120,7 +188,8 @@ public class JwtParseHelper {
      * @return UUID user id.
      */
     public UUID getUserIdFromToken(final String token) {
-        return UUID.fromString(Objects.requireNonNull(getValueFromTokenByKey(token, USER_ID_KEY)));
+        TokenClaims tokenClaims = getTokenClaimsFromToken(token);
+        return Objects.requireNonNull(tokenClaims == null ? null : tokenClaims.getIdentity().getUserId());
     }
 
     /**
@@ -135,6 +204,16 @@ public class JwtParseHelper {
         return UUID.fromString(Objects.requireNonNull(userIdKey));
     }
 
+    /**
+     * Get user id attribute from Token Claims.
+     *
+     * @param tokenClaims TokenClaims parsed
+     * @return UUID user id.
+     */
+    public UUID getUserIdFromTokenClaims(final TokenClaims tokenClaims) {
+        return Objects.requireNonNull(tokenClaims.getIdentity().getUserId());
+    }
+
     /**
      * Get user id attribute from non-M2M JWT token.
      *
@@ -142,16 +221,38 @@ public class JwtParseHelper {
      * @return UUID user id, or null in case it's M2M token.
      */
     public UUID getUserIdFromNonM2MToken(final String token) {
-        Map<String, ?> tokenDataMap = getTokenDataMapFromToken(token);
-        if (tokenDataMap != null) {
+        return getUserIdFromNonM2MTokenClaims(getTokenClaimsFromToken(token));
+    }
+
+    /**
+     * Get user id attribute from non-M2M JWT token, reusing the token claims already parsed for the request.
+     *
+     * @param request HttpServletRequest the token belongs to
+     * @param token String token to parse
+     * @return UUID user id, or null in case it's M2M token.
+     */
+    public UUID getUserIdFromNonM2MToken(final HttpServletRequest request, final String token) {
+        return getUserIdFromNonM2MTokenClaims(getTokenClaimsFromRequest(request, token));
+    }
+
+    /**
+     * Get identity of non-M2M JWT token, reusing the token claims already parsed for the request.
+     *
+     * @param request HttpServletRequest the token belongs to
+     * @param token String token to parse
+     * @return TokenIdentity, or null in case it's M2M token.
+     */
+    public TokenIdentity getNonM2MTokenIdentity(final HttpServletRequest request, final String token) {
+        TokenClaims tokenClaims = getTokenClaimsFromRequest(request, token);
+        return tokenClaims == null || tokenClaims.isM2M() ? null : tokenClaims.getIdentity();
+    }
+
+    private UUID getUserIdFromNonM2MTokenClaims(final TokenClaims tokenClaims) {
+        if (tokenClaims != null) {
             // Check if it's M2M token or not
-            Object clientId = tokenDataMap.get(CLIENT_ID_KEY);
-            String clientIdKey = clientId == null ? null : clientId.toString();
-            if (StringUtils.isBlank(clientIdKey)) {
+            if (!tokenClaims.isM2M()) {
                 // It's non-M2M token. Get userId from it
-                Object userId = tokenDataMap.get(USER_ID_KEY);
-                String userIdKey = userId == null ? null : userId.toString();
-                return UUID.fromString(Objects.requireNonNull(userIdKey));
+                return getUserIdFromTokenClaims(tokenClaims);
             }
             return null;
         }
@@ -161,23 +262,93 @@ public class JwtParseHelper {
         return null;
     }
 
-    private String getValueFromTokenByKey(final String token, final String key) {
-        Map<String, ?> tokenDataMap = getTokenDataMapFromToken(token);
-        if (tokenDataMap != null && tokenDataMap.containsKey(key)) {
-            return tokenDataMap.get(key).toString();
+    /**
+     * Get token claims for the request, parsing the token only once per request.
+     * Parsed claims are kept as {@link #TOKEN_CLAIMS_ATTRIBUTE} request attribute,
+     * so filters and services processing the same request share a single decode of the token.
+     *
+     * @param request HttpServletRequest the token belongs to
+     * @param token String token to parse
+     * @return TokenClaims parsed, or null in case token has no credentials part.
+     */
+    public TokenClaims getTokenClaimsFromRequest(final HttpServletRequest request, final String token) {
+        if (request == null) {
+            return getTokenClaimsFromToken(token);
+        }
+        Object parsed = request.getAttribute(TOKEN_CLAIMS_ATTRIBUTE);
+        if (parsed instanceof ParsedToken && ((ParsedToken) parsed).token.equals(token)) {
+            return ((ParsedToken) parsed).tokenClaims;
+        }
+        TokenClaims tokenClaims = getTokenClaimsFromToken(token);
+        request.setAttribute(TOKEN_CLAIMS_ATTRIBUTE, new ParsedToken(token, tokenClaims));
+        return tokenClaims;
+    }
+
+    /**
+     * Parse token claims used by ATP services from token.
+     * Unlike {@link #getTokenDataMapFromToken(String)}, claims JSON is scanned once by streaming parser
+     * and all other claims are skipped without being materialized.
+     *
+     * @param token String token to parse
+     * @return TokenClaims parsed, or null in case token has no credentials part.
+     */
+    public TokenClaims getTokenClaimsFromToken(final String token) {
+        if (StringUtils.isNotBlank(token)) {
+            if (tokenCache != null) {
+                TokenClaims cachedTokenClaims = tokenCache.get(token);
+                if (cachedTokenClaims != null) {
+                    return cachedTokenClaims;
+                }
+            }
+            try {
+                int credentialsStart = token.indexOf(' ') + 1;
+                if (credentialsStart == 0 || credentialsStart > token.trim().length()) {
+                    return null;
+                }
+                int credentialsEnd = token.indexOf(' ', credentialsStart);
+                TokenClaims tokenClaims = readTokenClaims(token, credentialsStart,
+                        credentialsEnd < 0 ? token.length() : credentialsEnd);
+                if (tokenCache != null) {
+                    tokenCache.put(token, tokenClaims);
+                }
+                return tokenClaims;
+            } catch (Exception e) {
+                log.error(PARSE_TOKEN_ERROR, e);
+                throw new IllegalStateException(PARSE_TOKEN_ERROR);
+            }
+        } else {
+            log.error(BLANK_TOKEN_ERROR);
+            throw new IllegalStateException(BLANK_TOKEN_ERROR);
         }
-        return null;
     }
 
+    /**
+     * Parse token data map from token. If the token cache is enabled, the map is kept in the cache entry
+     * of the token, so it's parsed once per token; the cached map is unmodifiable.
+     *
+     * @param token String token to parse
+     * @return Map of Token Data, or null in case token has no credentials part.
+     */
     public Map<String, ?> getTokenDataMapFromToken(final String token) {
         if (StringUtils.isNotBlank(token)) {
+            if (tokenCache != null) {
+                Map<String, ?> cachedTokenDataMap = tokenCache.getTokenDataMap(token);
+                if (cachedTokenDataMap != null) {
+                    return cachedTokenDataMap;
+                }
+            }
             try {
                 String[] splitToken = token.split(" ");
                 if (splitToken.length < 2) {
                     return null;
                 }
-                JsonParser parser = JsonParserFactory.getJsonParser();
-                return parser.parseMap(JwtHelper.decode(splitToken[1]).getClaims());
+                Map<String, ?> tokenDataMap = JsonParserFactory.getJsonParser()
+                        .parseMap(JwtHelper.decode(splitToken[1]).getClaims());
+                if (tokenCache != null) {
+                    tokenDataMap = Collections.unmodifiableMap(tokenDataMap);
+                    tokenCache.putTokenDataMap(token, tokenDataMap);
+                }
+                return tokenDataMap;
             } catch (Exception e) {
                 log.error(PARSE_TOKEN_ERROR, e);
                 throw new IllegalStateException(PARSE_TOKEN_ERROR);
@@ -187,4 +358,67 @@ public class JwtParseHelper {
             throw new IllegalStateException(BLANK_TOKEN_ERROR);
         }
     }
+
+    private TokenClaims readTokenClaims(final String token, final int start, final int end) throws IOException {
+        int headerEnd = token.indexOf('.', start);
+        int claimsEnd = headerEnd < 0 ? -1 : token.indexOf('.', headerEnd + 1);
+        int extraDot = claimsEnd < 0 ? -1 : token.indexOf('.', claimsEnd + 1);
+        if (claimsEnd < 0 || claimsEnd >= end || extraDot >= 0 && extraDot < end) {
+            throw new IllegalArgumentException("JWT must have 3 tokens");
+        }
+        byte[] claims = Base64.getUrlDecoder().decode(token.substring(headerEnd + 1, claimsEnd));
+        TokenIdentity.Id userId = TokenIdentity.Id.ABSENT;
+        TokenIdentity.Id sessionId = TokenIdentity.Id.ABSENT;
+        String username = null;
+        String clientId = null;
+        Long expiration = null;
+        try (JsonParser parser = JSON_FACTORY.createParser(claims)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("JWT claims must be JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String key = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (value == JsonToken.START_OBJECT || value == JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                } else if (USER_ID_KEY.equals(key)) {
+                    userId = readId(parser, value);
+                } else if (SESSION_STATE_KEY.equals(key)) {
+                    sessionId = readId(parser, value);
+                } else if (NAME_KEY.equals(key)) {
+                    username = parser.getValueAsString();
+                } else if (CLIENT_ID_KEY.equals(key)) {
+                    clientId = parser.getValueAsString();
+                } else if (EXPIRATION_KEY.equals(key) && value.isNumeric()) {
+                    expiration = parser.getValueAsLong();
+                }
+            }
+        }
+        return new TokenClaims(new TokenIdentity(userId, sessionId), username, clientId, expiration);
+    }
+
+    private TokenIdentity.Id readId(final JsonParser parser, final JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_STRING) {
+            return TokenIdentity.Id.parse(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+        }
+        return TokenIdentity.Id.parse(parser.getValueAsString());
+    }
+
+    private static final class ParsedToken {
+
+        /**
+         * Raw token the claims are parsed from.
+         */
+        private final String token;
+
+        /**
+         * Token claims parsed.
+         */
+        private final TokenClaims tokenClaims;
+
+        private ParsedToken(final String token, final TokenClaims tokenClaims) {
+            this.token = token;
+            this.tokenClaims = tokenClaims;
+        }
+    }
 }
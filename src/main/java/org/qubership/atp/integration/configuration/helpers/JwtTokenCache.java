@@ -0,0 +1,239 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.configuration.helpers;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Size-bounded LRU cache of claims parsed from authorization tokens: token claims and, if requested, token data maps.
+ * Entries are keyed by the hash of the raw token and are evicted once the token 'exp' claim passes.
+ */
+public class JwtTokenCache implements MeterBinder {
+
+    /**
+     * Key of expiration time claim in token data map.
+     */
+    private static final String EXPIRATION_KEY = "exp";
+
+    /**
+     * Maximum number of cached tokens.
+     */
+    private final int maxSize;
+
+    /**
+     * Maximum time (in milliseconds) to keep token claims in the cache regardless of its expiration time.
+     */
+    private final long maxTtlMillis;
+
+    /**
+     * Cached entries in access order, so the least recently used one is evicted first.
+     */
+    private final Map<Integer, Entry> entries;
+
+    /**
+     * Number of cache hits.
+     */
+    private final AtomicLong hits = new AtomicLong();
+
+    /**
+     * Number of cache misses.
+     */
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Constructor.
+     *
+     * @param maxSize int maximum number of cached tokens
+     * @param maxTtlSeconds long maximum time (in seconds) to keep token claims in the cache.
+     */
+    public JwtTokenCache(final int maxSize, final long maxTtlSeconds) {
+        this.maxSize = maxSize;
+        this.maxTtlMillis = TimeUnit.SECONDS.toMillis(maxTtlSeconds);
+        this.entries = new LinkedHashMap<Integer, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Integer, Entry> eldest) {
+                return size() > JwtTokenCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Get cached token claims.
+     *
+     * @param token String raw token
+     * @return TokenClaims, or null in case token isn't cached or is already expired.
+     */
+    public TokenClaims get(final String token) {
+        final Entry entry = getEntry(token);
+        final TokenClaims tokenClaims = entry == null ? null : entry.tokenClaims;
+        (tokenClaims == null ? misses : hits).incrementAndGet();
+        return tokenClaims;
+    }
+
+    /**
+     * Put token claims into the cache. Already expired tokens aren't cached.
+     *
+     * @param token String raw token
+     * @param tokenClaims TokenClaims parsed from the token.
+     */
+    public void put(final String token, final TokenClaims tokenClaims) {
+        final Entry entry = getOrCreateEntry(token, tokenClaims.getExpiration());
+        if (entry != null) {
+            entry.tokenClaims = tokenClaims;
+        }
+    }
+
+    /**
+     * Get cached token data map, kept in the same entry as token claims.
+     *
+     * @param token String raw token
+     * @return unmodifiable Map of token data, or null in case it isn't cached or token is already expired.
+     */
+    public Map<String, ?> getTokenDataMap(final String token) {
+        final Entry entry = getEntry(token);
+        final Map<String, ?> tokenDataMap = entry == null ? null : entry.tokenDataMap;
+        (tokenDataMap == null ? misses : hits).incrementAndGet();
+        return tokenDataMap;
+    }
+
+    /**
+     * Put token data map into the cache. Already expired tokens aren't cached.
+     *
+     * @param token String raw token
+     * @param tokenDataMap unmodifiable Map of token data parsed from the token.
+     */
+    public void putTokenDataMap(final String token, final Map<String, ?> tokenDataMap) {
+        final Object expiration = tokenDataMap.get(EXPIRATION_KEY);
+        final Entry entry = getOrCreateEntry(token,
+                expiration instanceof Number ? ((Number) expiration).longValue() : null);
+        if (entry != null) {
+            entry.tokenDataMap = tokenDataMap;
+        }
+    }
+
+    /**
+     * Get number of cached tokens.
+     *
+     * @return int number of cached tokens.
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Register cache metrics.
+     *
+     * @param registry MeterRegistry to register metrics in.
+     */
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder("atp.logging.jwt.cache.requests", hits, AtomicLong::doubleValue)
+                .tag("result", "hit")
+                .description("Number of authorization tokens found in the cache")
+                .register(registry);
+        FunctionCounter.builder("atp.logging.jwt.cache.requests", misses, AtomicLong::doubleValue)
+                .tag("result", "miss")
+                .description("Number of authorization tokens parsed because they are absent in the cache")
+                .register(registry);
+        Gauge.builder("atp.logging.jwt.cache.size", this, JwtTokenCache::size)
+                .description("Number of authorization tokens in the cache")
+                .register(registry);
+    }
+
+    private Entry getEntry(final String token) {
+        final Integer key = token.hashCode();
+        final Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        if (entry == null || !entry.token.equals(token)) {
+            return null;
+        }
+        if (entry.expiresAt > System.currentTimeMillis()) {
+            return entry;
+        }
+        synchronized (entries) {
+            entries.remove(key, entry);
+        }
+        return null;
+    }
+
+    private Entry getOrCreateEntry(final String token, final Long expiration) {
+        final long now = System.currentTimeMillis();
+        final long expiresAt = getExpiresAt(expiration, now);
+        if (expiresAt <= now) {
+            return null;
+        }
+        final Integer key = token.hashCode();
+        synchronized (entries) {
+            final Entry entry = entries.get(key);
+            if (entry != null && entry.token.equals(token) && entry.expiresAt > now) {
+                return entry;
+            }
+            final Entry newEntry = new Entry(token, expiresAt);
+            entries.put(key, newEntry);
+            return newEntry;
+        }
+    }
+
+    private long getExpiresAt(final Long expiration, final long now) {
+        final long maxExpiresAt = now + maxTtlMillis;
+        if (expiration == null) {
+            return maxExpiresAt;
+        }
+        return Math.min(TimeUnit.SECONDS.toMillis(expiration), maxExpiresAt);
+    }
+
+    private static final class Entry {
+
+        /**
+         * Raw token, to distinguish tokens with the same hash.
+         */
+        private final String token;
+
+        /**
+         * Time (in milliseconds) the entry expires at.
+         */
+        private final long expiresAt;
+
+        /**
+         * Token claims parsed, or null if only token data map is cached.
+         */
+        private volatile TokenClaims tokenClaims;
+
+        /**
+         * Token data map parsed, or null if only token claims are cached; kept lazily,
+         * since most requests need token claims only.
+         */
+        private volatile Map<String, ?> tokenDataMap;
+
+        private Entry(final String token, final long expiresAt) {
+            this.token = token;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.configuration.helpers;
+
+import org.apache.commons.lang3.StringUtils;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Claims of authorization token used by ATP services.
+ * Other claims of the token (roles, realm access etc.) are skipped while parsing.
+ */
+@Getter
+@RequiredArgsConstructor
+public final class TokenClaims {
+
+    /**
+     * User and session ids ('sub' and 'session_state' claims).
+     */
+    private final TokenIdentity identity;
+
+    /**
+     * Value of 'name' claim (username).
+     */
+    private final String username;
+
+    /**
+     * Value of 'clientId' claim; present in M2M tokens only.
+     */
+    private final String clientId;
+
+    /**
+     * Value of 'exp' claim (expiration time in seconds since epoch), or null if absent.
+     */
+    private final Long expiration;
+
+    /**
+     * Get value of 'sub' claim (user id).
+     *
+     * @return String user id, or null if absent.
+     */
+    public String getUserId() {
+        return identity.getUserIdString();
+    }
+
+    /**
+     * Get value of 'session_state' claim (session id).
+     *
+     * @return String session id, or null if absent.
+     */
+    public String getSessionId() {
+        return identity.getSessionIdString();
+    }
+
+    /**
+     * Detect if claims belong to M2M token.
+     *
+     * @return true if it's M2M token; otherwise false.
+     */
+    public boolean isM2M() {
+        return StringUtils.isNotBlank(clientId);
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.configuration.helpers;
+
+import java.util.UUID;
+
+/**
+ * User and session identifiers of authorization token.
+ * Identifiers are kept as pairs of longs and are parsed directly from the claim characters;
+ * their String forms are rendered on first use and then reused.
+ */
+public final class TokenIdentity {
+
+    /**
+     * Identity of token without 'sub' and 'session_state' claims.
+     */
+    public static final TokenIdentity EMPTY = new TokenIdentity(Id.ABSENT, Id.ABSENT);
+
+    /**
+     * Length of canonical UUID String representation.
+     */
+    private static final int UUID_LENGTH = 36;
+
+    /**
+     * Hex digits to render UUIDs.
+     */
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * User id ('sub' claim).
+     */
+    private final Id userId;
+
+    /**
+     * Session id ('session_state' claim).
+     */
+    private final Id sessionId;
+
+    /**
+     * Constructor.
+     *
+     * @param userId Id parsed from 'sub' claim
+     * @param sessionId Id parsed from 'session_state' claim.
+     */
+    TokenIdentity(final Id userId, final Id sessionId) {
+        this.userId = userId;
+        this.sessionId = sessionId;
+    }
+
+    /**
+     * Check if user id is present in the token.
+     *
+     * @return true if 'sub' claim is present and is UUID; otherwise false.
+     */
+    public boolean hasUserId() {
+        return userId.valid;
+    }
+
+    /**
+     * Get user id.
+     *
+     * @return UUID user id, or null if 'sub' claim is absent.
+     * @throws IllegalArgumentException in case 'sub' claim isn't UUID.
+     */
+    public UUID getUserId() {
+        return userId.toUuid();
+    }
+
+    /**
+     * Get String representation of user id.
+     *
+     * @return String user id, or null if 'sub' claim is absent.
+     */
+    public String getUserIdString() {
+        return userId.toString();
+    }
+
+    /**
+     * Get String representation of user id, failing on malformed 'sub' claim as {@link #getUserId()} does.
+     *
+     * @return String user id, or null if 'sub' claim is absent.
+     * @throws IllegalArgumentException in case 'sub' claim isn't UUID.
+     */
+    public String getValidUserIdString() {
+        return userId.toValidString();
+    }
+
+    /**
+     * Check if session id is present in the token.
+     *
+     * @return true if 'session_state' claim is present and is UUID; otherwise false.
+     */
+    public boolean hasSessionId() {
+        return sessionId.valid;
+    }
+
+    /**
+     * Get session id.
+     *
+     * @return UUID session id, or null if 'session_state' claim is absent.
+     * @throws IllegalArgumentException in case 'session_state' claim isn't UUID.
+     */
+    public UUID getSessionId() {
+        return sessionId.toUuid();
+    }
+
+    /**
+     * Get String representation of session id.
+     *
+     * @return String session id, or null if 'session_state' claim is absent.
+     */
+    public String getSessionIdString() {
+        return sessionId.toString();
+    }
+
+    /**
+     * Identifier parsed from token claim.
+     */
+    static final class Id {
+
+        /**
+         * Absent identifier.
+         */
+        static final Id ABSENT = new Id(0L, 0L, null, false);
+
+        /**
+         * Most significant bits of UUID.
+         */
+        private final long mostSigBits;
+
+        /**
+         * Least significant bits of UUID.
+         */
+        private final long leastSigBits;
+
+        /**
+         * Whether claim value is a valid UUID.
+         */
+        private final boolean valid;
+
+        /**
+         * String representation; rendered lazily for valid identifiers.
+         */
+        private String string;
+
+        private Id(final long mostSigBits, final long leastSigBits, final String string, final boolean valid) {
+            this.mostSigBits = mostSigBits;
+            this.leastSigBits = leastSigBits;
+            this.string = string;
+            this.valid = valid;
+        }
+
+        /**
+         * Parse identifier from claim characters.
+         *
+         * @param chars char[] buffer containing the claim value
+         * @param offset int offset of the value in the buffer
+         * @param length int length of the value
+         * @return Id parsed.
+         */
+        static Id parse(final char[] chars, final int offset, final int length) {
+            if (isCanonicalUuid(chars, offset, length)) {
+                long mostSigBits = parseHex(chars, offset, 8) << 32
+                        | parseHex(chars, offset + 9, 4) << 16
+                        | parseHex(chars, offset + 14, 4);
+                long leastSigBits = parseHex(chars, offset + 19, 4) << 48
+                        | parseHex(chars, offset + 24, 12);
+                return new Id(mostSigBits, leastSigBits, null, true);
+            }
+            return parse(new String(chars, offset, length));
+        }
+
+        /**
+         * Parse identifier from claim value.
+         *
+         * @param value String claim value
+         * @return Id parsed; ABSENT in case value is null.
+         */
+        static Id parse(final String value) {
+            if (value == null) {
+                return ABSENT;
+            }
+            try {
+                UUID uuid = UUID.fromString(value);
+                return new Id(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), null, true);
+            } catch (IllegalArgumentException e) {
+                return new Id(0L, 0L, value, false);
+            }
+        }
+
+        UUID toUuid() {
+            if (valid) {
+                return new UUID(mostSigBits, leastSigBits);
+            }
+            return string == null ? null : UUID.fromString(string);
+        }
+
+        String toValidString() {
+            if (!valid && string != null) {
+                throw new IllegalArgumentException("Invalid UUID string: " + string);
+            }
+            return toString();
+        }
+
+        @Override
+        public String toString() {
+            String result = string;
+            if (result == null && valid) {
+                char[] chars = new char[UUID_LENGTH];
+                renderHex(chars, 0, mostSigBits >>> 32, 8);
+                chars[8] = '-';
+                renderHex(chars, 9, mostSigBits >>> 16, 4);
+                chars[13] = '-';
+                renderHex(chars, 14, mostSigBits, 4);
+                chars[18] = '-';
+                renderHex(chars, 19, leastSigBits >>> 48, 4);
+                chars[23] = '-';
+                renderHex(chars, 24, leastSigBits, 12);
+                result = new String(chars);
+                string = result;
+            }
+            return result;
+        }
+
+        private static boolean isCanonicalUuid(final char[] chars, final int offset, final int length) {
+            if (length != UUID_LENGTH) {
+                return false;
+            }
+            for (int i = 0; i < UUID_LENGTH; i++) {
+                char c = chars[offset + i];
+                if (i == 8 || i == 13 || i == 18 || i == 23) {
+                    if (c != '-') {
+                        return false;
+                    }
+                } else if (hexDigit(c) < 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static long parseHex(final char[] chars, final int offset, final int length) {
+            long result = 0;
+            for (int i = offset; i < offset + length; i++) {
+                result = result << 4 | hexDigit(chars[i]);
+            }
+            return result;
+        }
+
+        private static int hexDigit(final char c) {
+            if (c >= '0' && c <= '9') {
+                return c - '0';
+            }
+            if (c >= 'a' && c <= 'f') {
+                return c - 'a' + 10;
+            }
+            if (c >= 'A' && c <= 'F') {
+                return c - 'A' + 10;
+            }
+            return -1;
+        }
+
+        private static void renderHex(final char[] chars, final int offset, final long value, final int length) {
+            for (int i = offset + length - 1, shift = 0; i >= offset; i--, shift += 4) {
+                chars[i] = HEX_DIGITS[(int) (value >>> shift) & 0xF];
+            }
+        }
+    }
+}
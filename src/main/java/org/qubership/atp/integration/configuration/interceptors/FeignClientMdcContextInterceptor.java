@@ -16,12 +16,11 @@
 
 package org.qubership.atp.integration.configuration.interceptors;
 
-import java.util.List;
-
 import org.apache.commons.lang3.StringUtils;
-import org.qubership.atp.integration.configuration.mdc.MdcUtils;
+import org.qubership.atp.integration.configuration.mdc.BusinessId;
+import org.qubership.atp.integration.configuration.mdc.BusinessIdRegistry;
+import org.qubership.atp.integration.configuration.mdc.MdcSnapshot;
 import org.slf4j.MDC;
-import org.springframework.util.CollectionUtils;
 
 import feign.RequestInterceptor;
 import feign.RequestTemplate;
@@ -39,9 +38,9 @@ import lombok.extern.slf4j.Slf4j;
 public class FeignClientMdcContextInterceptor implements RequestInterceptor {
 
     /**
-     * List of String business IDs.
+     * Registry of business IDs.
      */
-    private final List<String> businessIds;
+    private final BusinessIdRegistry businessIdRegistry;
 
     /**
      * Constructor.
@@ -49,7 +48,16 @@ public class FeignClientMdcContextInterceptor implements RequestInterceptor {
      * @param businessIdsString String list of business IDs separated by comma.
      */
     public FeignClientMdcContextInterceptor(final String businessIdsString) {
-        businessIds = MdcUtils.convertIdNamesToList(businessIdsString);
+        this(BusinessIdRegistry.of(businessIdsString));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param businessIdRegistry BusinessIdRegistry bean.
+     */
+    public FeignClientMdcContextInterceptor(final BusinessIdRegistry businessIdRegistry) {
+        this.businessIdRegistry = businessIdRegistry;
     }
 
     /**
@@ -59,10 +67,14 @@ public class FeignClientMdcContextInterceptor implements RequestInterceptor {
      */
     @Override
     public void apply(final RequestTemplate template) {
-        if (!CollectionUtils.isEmpty(businessIds)) {
-            businessIds.stream()
-                    .filter(idName -> StringUtils.isNotBlank(MDC.get(idName)))
-                    .forEach(idName -> template.header(MdcUtils.convertIdNameToHeader(idName), MDC.get(idName)));
+        MdcSnapshot mdc = MdcSnapshot.capture();
+        if (!mdc.isEmpty()) {
+            for (BusinessId businessId : businessIdRegistry.getBusinessIds()) {
+                String value = mdc.get(businessId.getName());
+                if (StringUtils.isNotBlank(value)) {
+                    template.header(businessId.getHeaderName(), value);
+                }
+            }
         }
     }
 }
@@ -16,11 +16,12 @@
 
 package org.qubership.atp.integration.configuration.interceptors;
 
-import java.util.List;
-
 import org.apache.commons.lang3.StringUtils;
 import org.qubership.atp.integration.configuration.helpers.JwtParseHelper;
 import org.qubership.atp.integration.configuration.helpers.StompHelper;
+import org.qubership.atp.integration.configuration.helpers.TokenIdentity;
+import org.qubership.atp.integration.configuration.mdc.BusinessId;
+import org.qubership.atp.integration.configuration.mdc.BusinessIdRegistry;
 import org.qubership.atp.integration.configuration.mdc.MdcField;
 import org.qubership.atp.integration.configuration.mdc.MdcUtils;
 import org.slf4j.MDC;
@@ -29,7 +30,6 @@ import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.MessageHeaderAccessor;
-import org.springframework.util.CollectionUtils;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -47,9 +47,9 @@ public class MdcChannelInterceptor implements ChannelInterceptor {
     private final JwtParseHelper jwtParseHelper;
 
     /**
-     * List of String business IDs.
+     * Registry of business IDs.
      */
-    private final List<String> businessIds;
+    private final BusinessIdRegistry businessIdRegistry;
 
     /**
      * Create and configure message handler.
@@ -61,9 +61,22 @@ public class MdcChannelInterceptor implements ChannelInterceptor {
     public MdcChannelInterceptor(final StompHelper bearerTokenStompHelper,
                                  final JwtParseHelper parseHelper,
                                  final String businessIdsString) {
+        this(bearerTokenStompHelper, parseHelper, BusinessIdRegistry.of(businessIdsString));
+    }
+
+    /**
+     * Create and configure message handler.
+     *
+     * @param bearerTokenStompHelper StompHelper bean
+     * @param parseHelper JwtParseHelper bean
+     * @param businessIdRegistry BusinessIdRegistry bean.
+     */
+    public MdcChannelInterceptor(final StompHelper bearerTokenStompHelper,
+                                 final JwtParseHelper parseHelper,
+                                 final BusinessIdRegistry businessIdRegistry) {
         this.bearerTokenStompHelper = bearerTokenStompHelper;
         this.jwtParseHelper = parseHelper;
-        this.businessIds = MdcUtils.convertIdNamesToList(businessIdsString);
+        this.businessIdRegistry = businessIdRegistry;
     }
 
     /**
@@ -82,8 +95,10 @@ public class MdcChannelInterceptor implements ChannelInterceptor {
                 String token = this.bearerTokenStompHelper.extractBearerToken(accessor);
                 if (token != null && StringUtils.startsWithIgnoreCase(token, "Bearer ")) {
                     try {
-                        if (!jwtParseHelper.isM2Mtoken(token)) {
-                            MdcUtils.put(MdcField.USER_ID.toString(), jwtParseHelper.getUserIdFromToken(token));
+                        TokenIdentity identity = jwtParseHelper.getNonM2MTokenIdentity(null, token);
+                        if (identity != null) {
+                            // Malformed 'sub' claim fails here and is logged below.
+                            MdcUtils.put(MdcField.USER_ID.toString(), identity.getValidUserIdString());
                         }
                     } catch (Exception e) {
                         log.error("Error while getting userId from token", e);
@@ -98,13 +113,11 @@ public class MdcChannelInterceptor implements ChannelInterceptor {
     }
 
     private void processHeaders(final StompHeaderAccessor accessor) {
-        if (!CollectionUtils.isEmpty(businessIds)) {
-            businessIds.forEach(idName -> {
-                String header = accessor.getFirstNativeHeader(MdcUtils.convertIdNameToHeader(idName));
-                if (header != null) {
-                    MdcUtils.put(idName.trim(), header);
-                }
-            });
+        for (BusinessId businessId : businessIdRegistry.getBusinessIds()) {
+            String header = accessor.getFirstNativeHeader(businessId.getHeaderName());
+            if (header != null) {
+                MdcUtils.put(businessId.getName(), header);
+            }
         }
     }
 }
@@ -19,8 +19,9 @@ package org.qubership.atp.integration.configuration.interceptors;
 import java.io.IOException;
 import java.util.List;
 
-import org.qubership.atp.integration.configuration.mdc.MdcUtils;
-import org.slf4j.MDC;
+import org.qubership.atp.integration.configuration.mdc.BusinessId;
+import org.qubership.atp.integration.configuration.mdc.BusinessIdRegistry;
+import org.qubership.atp.integration.configuration.mdc.MdcSnapshot;
 import org.springframework.http.client.ClientHttpRequestExecution;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.client.ClientHttpResponse;
@@ -29,9 +30,9 @@ import org.springframework.lang.NonNull;
 public class MdcClientHttpRequestInterceptor implements ClientHttpRequestInterceptor {
 
     /**
-     * List of String business IDs.
+     * Registry of business IDs.
      */
-    List<String> businessIds;
+    private final BusinessIdRegistry businessIdRegistry;
 
     /**
      * Constructor.
@@ -39,7 +40,16 @@ public class MdcClientHttpRequestInterceptor implements ClientHttpRequestInterce
      * @param businessIds List of String business IDs.
      */
     public MdcClientHttpRequestInterceptor(final List<String> businessIds) {
-        this.businessIds = businessIds;
+        this(BusinessIdRegistry.of(businessIds));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param businessIdRegistry BusinessIdRegistry bean.
+     */
+    public MdcClientHttpRequestInterceptor(final BusinessIdRegistry businessIdRegistry) {
+        this.businessIdRegistry = businessIdRegistry;
     }
 
     /**
@@ -56,11 +66,15 @@ public class MdcClientHttpRequestInterceptor implements ClientHttpRequestInterce
     public ClientHttpResponse intercept(@NonNull final org.springframework.http.HttpRequest request,
                                         @NonNull final byte[] body,
                                         final ClientHttpRequestExecution execution) throws IOException {
-        businessIds.forEach(idName -> {
-            if (MDC.get(idName) != null) {
-                request.getHeaders().add(MdcUtils.convertIdNameToHeader(idName), MDC.get(idName));
+        MdcSnapshot mdc = MdcSnapshot.capture();
+        if (!mdc.isEmpty()) {
+            for (BusinessId businessId : businessIdRegistry.getBusinessIds()) {
+                String value = mdc.get(businessId.getName());
+                if (value != null) {
+                    request.getHeaders().add(businessId.getHeaderName(), value);
+                }
             }
-        });
+        }
         return execution.execute(request, body);
     }
 }
@@ -24,6 +24,7 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.qubership.atp.integration.configuration.helpers.JwtParseHelper;
+import org.qubership.atp.integration.configuration.mdc.MdcSnapshot;
 import org.qubership.atp.integration.configuration.mdc.MdcUtils;
 import org.slf4j.MDC;
 import org.springframework.util.CollectionUtils;
@@ -107,8 +108,9 @@ public class MdcContextHttpInterceptor extends HandlerInterceptorAdapter {
 
     private void processBusinessIds(final HttpServletRequest request) {
         if (!CollectionUtils.isEmpty(businessIds)) {
+            MdcSnapshot mdc = MdcSnapshot.capture();
             for (String idName: businessIds) {
-                if (MDC.get(idName) == null) {
+                if (mdc.get(idName) == null) {
                     processPathVariables(request, idName);
                     processRequestParameters(request, idName);
                 }
@@ -0,0 +1,77 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.configuration.interceptors;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.clients.consumer.ConsumerInterceptor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Headers;
+import org.qubership.atp.integration.configuration.mdc.BusinessIdRegistry;
+import org.qubership.atp.integration.configuration.mdc.KafkaBusinessIdHeaders;
+
+/**
+ * Kafka consumer interceptor putting business IDs of polled records into MDC of the polling thread,
+ * for plain Kafka consumers processing records on the polling thread.
+ * A poll may return records of different requests, so only business IDs all records have the same values of
+ * are put into MDC; other business IDs are removed. Use {@link MdcKafkaRecordInterceptor}
+ * with Spring Kafka listeners, to have business IDs of each record.
+ * Business IDs are taken from {@link KafkaBusinessIdHeaders#getDefaultRegistry()}.
+ */
+public class MdcKafkaConsumerInterceptor<K, V> implements ConsumerInterceptor<K, V> {
+
+    /**
+     * Registry of business IDs.
+     */
+    private BusinessIdRegistry businessIdRegistry = BusinessIdRegistry.of((String) null);
+
+    /**
+     * Put business IDs common for all polled records into MDC.
+     *
+     * @param records ConsumerRecords polled
+     * @return the same records.
+     */
+    @Override
+    public ConsumerRecords<K, V> onConsume(final ConsumerRecords<K, V> records) {
+        if (!businessIdRegistry.isEmpty() && !records.isEmpty()) {
+            List<Headers> headers = new ArrayList<>(records.count());
+            for (ConsumerRecord<K, V> record : records) {
+                headers.add(record.headers());
+            }
+            KafkaBusinessIdHeaders.restoreCommon(headers, businessIdRegistry);
+        }
+        return records;
+    }
+
+    @Override
+    public void onCommit(final Map<TopicPartition, OffsetAndMetadata> offsets) {
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public void configure(final Map<String, ?> configs) {
+        this.businessIdRegistry = KafkaBusinessIdHeaders.getDefaultRegistry();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.configuration.interceptors;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerInterceptor;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.qubership.atp.integration.configuration.mdc.BusinessIdRegistry;
+import org.qubership.atp.integration.configuration.mdc.KafkaBusinessIdHeaders;
+import org.qubership.atp.integration.configuration.mdc.MdcSnapshot;
+
+/**
+ * Kafka producer interceptor writing business IDs of MDC of the sending thread as record headers,
+ * see {@link KafkaBusinessIdHeaders}. If created by Kafka producer, it takes business IDs and their encoding
+ * set by {@link KafkaBusinessIdHeaders#setDefaults}.
+ */
+public class MdcKafkaProducerInterceptor<K, V> implements ProducerInterceptor<K, V> {
+
+    /**
+     * Registry of business IDs.
+     */
+    private BusinessIdRegistry businessIdRegistry;
+
+    /**
+     * Whether UUIDs are written as binary.
+     */
+    private boolean binaryUuids;
+
+    /**
+     * Constructor used by Kafka producer; business IDs and their encoding are set by {@link #configure(Map)}.
+     */
+    public MdcKafkaProducerInterceptor() {
+        this(KafkaBusinessIdHeaders.getDefaultRegistry(), KafkaBusinessIdHeaders.isDefaultBinaryUuids());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param businessIdRegistry BusinessIdRegistry bean
+     * @param binaryUuids true to write UUIDs as binary; false to write UTF-8 strings.
+     */
+    public MdcKafkaProducerInterceptor(final BusinessIdRegistry businessIdRegistry, final boolean binaryUuids) {
+        this.businessIdRegistry = businessIdRegistry;
+        this.binaryUuids = binaryUuids;
+    }
+
+    /**
+     * Add this interceptor to producer config, keeping interceptors already configured,
+     * and set business IDs and their encoding of interceptors created by Kafka clients.
+     *
+     * @param producerConfig Map of producer config to change
+     * @param businessIdRegistry BusinessIdRegistry bean
+     * @param binaryUuids true to write UUIDs as binary; false to write UTF-8 strings.
+     */
+    public static void addTo(final Map<String, Object> producerConfig,
+                             final BusinessIdRegistry businessIdRegistry,
+                             final boolean binaryUuids) {
+        List<Object> interceptors = new ArrayList<>();
+        Object configured = producerConfig.get(ProducerConfig.INTERCEPTOR_CLASSES_CONFIG);
+        if (configured instanceof Collection) {
+            interceptors.addAll((Collection<?>) configured);
+        } else if (configured instanceof String && !((String) configured).trim().isEmpty()) {
+            interceptors.addAll(Arrays.asList(((String) configured).trim().split("\\s*,\\s*")));
+        } else if (configured != null) {
+            interceptors.add(configured);
+        }
+        interceptors.add(MdcKafkaProducerInterceptor.class);
+        producerConfig.put(ProducerConfig.INTERCEPTOR_CLASSES_CONFIG, interceptors);
+        KafkaBusinessIdHeaders.setDefaults(businessIdRegistry, binaryUuids);
+    }
+
+    /**
+     * Add business IDs of MDC to record headers.
+     *
+     * @param record ProducerRecord to send
+     * @return the same record.
+     */
+    @Override
+    public ProducerRecord<K, V> onSend(final ProducerRecord<K, V> record) {
+        if (!businessIdRegistry.isEmpty()) {
+            MdcSnapshot mdc = MdcSnapshot.capture();
+            if (!mdc.isEmpty()) {
+                KafkaBusinessIdHeaders.write(record.headers(), businessIdRegistry, mdc, binaryUuids);
+            }
+        }
+        return record;
+    }
+
+    @Override
+    public void onAcknowledgement(final RecordMetadata metadata, final Exception exception) {
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public void configure(final Map<String, ?> configs) {
+        this.businessIdRegistry = KafkaBusinessIdHeaders.getDefaultRegistry();
+        this.binaryUuids = KafkaBusinessIdHeaders.isDefaultBinaryUuids();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.configuration.interceptors;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.qubership.atp.integration.configuration.mdc.BusinessIdRegistry;
+import org.qubership.atp.integration.configuration.mdc.KafkaBusinessIdHeaders;
+import org.qubership.atp.integration.configuration.mdc.MdcSnapshot;
+import org.springframework.kafka.listener.RecordInterceptor;
+
+/**
+ * Spring Kafka record interceptor putting business IDs of record headers into MDC of the listener thread
+ * while the record is processed. MDC the listener thread had before is restored after the record.
+ */
+public class MdcKafkaRecordInterceptor<K, V> implements RecordInterceptor<K, V> {
+
+    /**
+     * MDC of the listener thread before the record being processed.
+     */
+    private final ThreadLocal<MdcSnapshot> previousMdc = new ThreadLocal<>();
+
+    /**
+     * Registry of business IDs.
+     */
+    private final BusinessIdRegistry businessIdRegistry;
+
+    /**
+     * Constructor.
+     *
+     * @param businessIdRegistry BusinessIdRegistry bean.
+     */
+    public MdcKafkaRecordInterceptor(final BusinessIdRegistry businessIdRegistry) {
+        this.businessIdRegistry = businessIdRegistry;
+    }
+
+    /**
+     * Put business IDs of record headers into MDC.
+     *
+     * @param record ConsumerRecord to process
+     * @param consumer Consumer
+     * @return the same record.
+     */
+    @Override
+    public ConsumerRecord<K, V> intercept(final ConsumerRecord<K, V> record, final Consumer<K, V> consumer) {
+        if (!businessIdRegistry.isEmpty()) {
+            previousMdc.set(MdcSnapshot.capture());
+            KafkaBusinessIdHeaders.restore(record.headers(), businessIdRegistry);
+        }
+        return record;
+    }
+
+    /**
+     * Put business IDs of record headers into MDC.
+     *
+     * @param record ConsumerRecord to process
+     * @return the same record.
+     * @deprecated in Spring Kafka, {@link #intercept(ConsumerRecord, Consumer)} is called instead.
+     */
+    @Override
+    @Deprecated
+    public ConsumerRecord<K, V> intercept(final ConsumerRecord<K, V> record) {
+        return intercept(record, null);
+    }
+
+    /**
+     * Restore MDC the listener thread had before the record.
+     *
+     * @param record ConsumerRecord processed
+     * @param consumer Consumer.
+     */
+    @Override
+    public void afterRecord(final ConsumerRecord<K, V> record, final Consumer<K, V> consumer) {
+        MdcSnapshot previous = previousMdc.get();
+        if (previous != null) {
+            previousMdc.remove();
+            previous.restore();
+        }
+    }
+}
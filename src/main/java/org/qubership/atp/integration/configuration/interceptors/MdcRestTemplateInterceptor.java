@@ -21,15 +21,16 @@ import java.util.List;
 import org.apache.http.HttpRequest;
 import org.apache.http.HttpRequestInterceptor;
 import org.apache.http.protocol.HttpContext;
-import org.qubership.atp.integration.configuration.mdc.MdcUtils;
-import org.slf4j.MDC;
+import org.qubership.atp.integration.configuration.mdc.BusinessId;
+import org.qubership.atp.integration.configuration.mdc.BusinessIdRegistry;
+import org.qubership.atp.integration.configuration.mdc.MdcSnapshot;
 
 public class MdcRestTemplateInterceptor implements HttpRequestInterceptor {
 
     /**
-     * List of String business IDs.
+     * Registry of business IDs.
      */
-    List<String> businessIds;
+    private final BusinessIdRegistry businessIdRegistry;
 
     /**
      * Constructor.
@@ -37,7 +38,16 @@ public class MdcRestTemplateInterceptor implements HttpRequestInterceptor {
      * @param businessIds List of String business IDs.
      */
     public MdcRestTemplateInterceptor(final List<String> businessIds) {
-        this.businessIds = businessIds;
+        this(BusinessIdRegistry.of(businessIds));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param businessIdRegistry BusinessIdRegistry bean.
+     */
+    public MdcRestTemplateInterceptor(final BusinessIdRegistry businessIdRegistry) {
+        this.businessIdRegistry = businessIdRegistry;
     }
 
     /**
@@ -48,12 +58,15 @@ public class MdcRestTemplateInterceptor implements HttpRequestInterceptor {
      */
     @Override
     public void process(final HttpRequest request, final HttpContext context) {
-        businessIds.forEach(idName -> {
-            String value = MDC.get(idName);
-            if (value != null) {
-                request.addHeader(MdcUtils.convertIdNameToHeader(idName), value);
+        MdcSnapshot mdc = MdcSnapshot.capture();
+        if (!mdc.isEmpty()) {
+            for (BusinessId businessId : businessIdRegistry.getBusinessIds()) {
+                String value = mdc.get(businessId.getName());
+                if (value != null) {
+                    request.addHeader(businessId.getHeaderName(), value);
+                }
             }
-        });
+        }
     }
 
 }
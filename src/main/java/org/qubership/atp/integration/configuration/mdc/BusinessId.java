@@ -0,0 +1,61 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.configuration.mdc;
+
+import java.util.Locale;
+
+import lombok.Getter;
+
+/**
+ * Business ID with the header name it is propagated by.
+ */
+@Getter
+public final class BusinessId {
+
+    /**
+     * Name of MDC key.
+     */
+    private final String name;
+
+    /**
+     * Name of header, like 'X-Project-Id' for 'projectId' key.
+     */
+    private final String headerName;
+
+    /**
+     * Name of header in lower case, to match header names ignoring case.
+     */
+    private final String lowerCaseHeaderName;
+
+    /**
+     * Index of business ID in the registry.
+     */
+    private final int index;
+
+    /**
+     * Constructor.
+     *
+     * @param name String MDC key
+     * @param index int index of business ID in the registry.
+     */
+    BusinessId(final String name, final int index) {
+        this.name = name;
+        this.headerName = MdcUtils.convertIdNameToHeader(name);
+        this.lowerCaseHeaderName = headerName.toLowerCase(Locale.ROOT);
+        this.index = index;
+    }
+}
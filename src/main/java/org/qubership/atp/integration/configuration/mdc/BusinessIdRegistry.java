@@ -0,0 +1,134 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.configuration.mdc;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable registry of business IDs and their header names.
+ * It is built once at startup, so header names aren't recalculated for each request or message.
+ */
+public final class BusinessIdRegistry {
+
+    /**
+     * Business IDs in configuration order.
+     */
+    private final List<BusinessId> businessIds;
+
+    /**
+     * Business IDs by lower case header name.
+     */
+    private final Map<String, BusinessId> businessIdsByHeader;
+
+    /**
+     * Business IDs by header name as is, like 'X-Project-Id'.
+     */
+    private final Map<String, BusinessId> businessIdsByExactHeader;
+
+    private BusinessIdRegistry(final List<String> names) {
+        List<BusinessId> ids = new ArrayList<>(names.size());
+        Map<String, BusinessId> idsByHeader = new HashMap<>();
+        Map<String, BusinessId> idsByExactHeader = new HashMap<>();
+        for (String name : names) {
+            if (name == null || name.trim().isEmpty()) {
+                continue;
+            }
+            BusinessId businessId = new BusinessId(name.trim(), ids.size());
+            if (!idsByHeader.containsKey(businessId.getLowerCaseHeaderName())) {
+                ids.add(businessId);
+                idsByHeader.put(businessId.getLowerCaseHeaderName(), businessId);
+                idsByExactHeader.put(businessId.getHeaderName(), businessId);
+            }
+        }
+        this.businessIds = Collections.unmodifiableList(ids);
+        this.businessIdsByHeader = Collections.unmodifiableMap(idsByHeader);
+        this.businessIdsByExactHeader = Collections.unmodifiableMap(idsByExactHeader);
+    }
+
+    /**
+     * Create registry of business IDs.
+     *
+     * @param names List of String business IDs
+     * @return new BusinessIdRegistry.
+     */
+    public static BusinessIdRegistry of(final List<String> names) {
+        return new BusinessIdRegistry(names == null ? Collections.emptyList() : names);
+    }
+
+    /**
+     * Create registry of business IDs.
+     *
+     * @param businessIdsString String list of business IDs separated by comma
+     * @return new BusinessIdRegistry.
+     */
+    public static BusinessIdRegistry of(final String businessIdsString) {
+        return of(MdcUtils.convertIdNamesToList(businessIdsString));
+    }
+
+    /**
+     * Get business IDs in configuration order.
+     *
+     * @return unmodifiable List of BusinessId.
+     */
+    public List<BusinessId> getBusinessIds() {
+        return businessIds;
+    }
+
+    /**
+     * Find business ID by header name ignoring case.
+     *
+     * @param headerName String header name
+     * @return BusinessId, or null if header doesn't correspond to any business ID.
+     */
+    public BusinessId findByHeader(final String headerName) {
+        return headerName == null ? null : businessIdsByHeader.get(headerName.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Find business ID by header name as is, without converting it to lower case.
+     * Suits case-sensitive headers written by this library, like Kafka record headers.
+     *
+     * @param headerName String header name, like 'X-Project-Id'
+     * @return BusinessId, or null if header doesn't correspond to any business ID.
+     */
+    public BusinessId findByExactHeader(final String headerName) {
+        return headerName == null ? null : businessIdsByExactHeader.get(headerName);
+    }
+
+    /**
+     * Get number of business IDs.
+     *
+     * @return int number of business IDs.
+     */
+    public int size() {
+        return businessIds.size();
+    }
+
+    /**
+     * Check if registry has no business IDs.
+     *
+     * @return true if there are no business IDs; otherwise false.
+     */
+    public boolean isEmpty() {
+        return businessIds.isEmpty();
+    }
+}
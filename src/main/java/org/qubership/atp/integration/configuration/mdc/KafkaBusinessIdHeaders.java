@@ -0,0 +1,230 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.configuration.mdc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.slf4j.MDC;
+
+/**
+ * Business IDs as Kafka record headers.
+ * Header names are the precomputed names of {@link BusinessId}, like 'X-Project-Id'.
+ * Values are written as UTF-8 strings, readable by any consumer. If binary UUIDs are enabled,
+ * a UUID in canonical lower case form takes 17 bytes instead of 36: marker byte {@value #UUID_MARKER}
+ * followed by 16 bytes of the UUID, most significant first. Both forms are decoded.
+ * Interceptors created by Kafka clients take the registry and the encoding set by {@link #setDefaults},
+ * as Kafka clients warn of config keys they don't know.
+ */
+public final class KafkaBusinessIdHeaders {
+
+    /**
+     * Marker (first byte) of a header value holding UUID.
+     */
+    public static final byte UUID_MARKER = 1;
+
+    /**
+     * Length of UUID string in canonical form.
+     */
+    private static final int UUID_STRING_LENGTH = 36;
+
+    /**
+     * Length of header value holding UUID.
+     */
+    private static final int UUID_VALUE_LENGTH = 17;
+
+    /**
+     * Lower case hex digits.
+     */
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * Registry of business IDs of interceptors created by Kafka clients.
+     */
+    private static volatile BusinessIdRegistry defaultRegistry = BusinessIdRegistry.of((String) null);
+
+    /**
+     * Whether interceptors created by Kafka clients write UUIDs as binary.
+     */
+    private static volatile boolean defaultBinaryUuids;
+
+    private KafkaBusinessIdHeaders() {
+    }
+
+    /**
+     * Set business IDs and encoding of interceptors created by Kafka clients.
+     *
+     * @param registry BusinessIdRegistry of IDs to write and restore
+     * @param binaryUuids true to write UUIDs as binary; false to write UTF-8 strings.
+     */
+    public static void setDefaults(final BusinessIdRegistry registry, final boolean binaryUuids) {
+        defaultRegistry = registry;
+        defaultBinaryUuids = binaryUuids;
+    }
+
+    /**
+     * Get business IDs of interceptors created by Kafka clients.
+     *
+     * @return BusinessIdRegistry set, or empty registry if it isn't set.
+     */
+    public static BusinessIdRegistry getDefaultRegistry() {
+        return defaultRegistry;
+    }
+
+    /**
+     * Check if interceptors created by Kafka clients write UUIDs as binary.
+     *
+     * @return true if UUIDs are written as binary; false if they are written as UTF-8 strings.
+     */
+    public static boolean isDefaultBinaryUuids() {
+        return defaultBinaryUuids;
+    }
+
+    /**
+     * Add business IDs of MDC to headers. Headers which are already set aren't changed.
+     *
+     * @param headers Headers of record
+     * @param registry BusinessIdRegistry of IDs to add
+     * @param mdc MdcSnapshot to take values from
+     * @param binaryUuids true to write UUIDs as binary; false to write UTF-8 strings
+     * @return true if any header is added; otherwise false.
+     */
+    public static boolean write(final Headers headers, final BusinessIdRegistry registry, final MdcSnapshot mdc,
+                                final boolean binaryUuids) {
+        boolean added = false;
+        for (BusinessId businessId : registry.getBusinessIds()) {
+            String value = mdc.get(businessId.getName());
+            if (value != null && !value.isEmpty() && headers.lastHeader(businessId.getHeaderName()) == null) {
+                headers.add(businessId.getHeaderName(), encode(value, binaryUuids));
+                added = true;
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Put business IDs of headers into MDC.
+     *
+     * @param headers Headers of record
+     * @param registry BusinessIdRegistry of IDs to put
+     * @return true if any business ID is put into MDC; otherwise false.
+     */
+    public static boolean restore(final Headers headers, final BusinessIdRegistry registry) {
+        boolean restored = false;
+        for (Header header : headers) {
+            BusinessId businessId = registry.findByExactHeader(header.key());
+            if (businessId != null && header.value() != null) {
+                restored |= MdcUtils.put(businessId.getName(), decode(header.value()));
+            }
+        }
+        return restored;
+    }
+
+    /**
+     * Put business IDs into MDC which all records have the same values of; other business IDs are removed.
+     * Values are compared as bytes, so each value is decoded only once.
+     *
+     * @param headers Collection of Headers of records
+     * @param registry BusinessIdRegistry of IDs to put.
+     */
+    public static void restoreCommon(final Collection<Headers> headers, final BusinessIdRegistry registry) {
+        for (BusinessId businessId : registry.getBusinessIds()) {
+            byte[] common = null;
+            for (Headers recordHeaders : headers) {
+                Header header = recordHeaders.lastHeader(businessId.getHeaderName());
+                byte[] value = header == null ? null : header.value();
+                if (value == null || common != null && !Arrays.equals(common, value)) {
+                    common = null;
+                    break;
+                }
+                common = value;
+            }
+            if (common == null || !MdcUtils.put(businessId.getName(), decode(common))) {
+                MDC.remove(businessId.getName());
+            }
+        }
+    }
+
+    /**
+     * Encode business ID value.
+     *
+     * @param value String value
+     * @param binaryUuid true to write UUID as binary; false to write UTF-8 string
+     * @return bytes of header value.
+     */
+    public static byte[] encode(final String value, final boolean binaryUuid) {
+        if (binaryUuid && isCanonicalUuid(value)) {
+            byte[] bytes = new byte[UUID_VALUE_LENGTH];
+            bytes[0] = UUID_MARKER;
+            int nibble = 0;
+            for (int i = 0; i < UUID_STRING_LENGTH; i++) {
+                char c = value.charAt(i);
+                if (c == '-') {
+                    continue;
+                }
+                int digit = c <= '9' ? c - '0' : c - 'a' + 10;
+                int index = 1 + (nibble >> 1);
+                bytes[index] = (byte) ((nibble & 1) == 0 ? digit << 4 : bytes[index] | digit);
+                nibble++;
+            }
+            return bytes;
+        }
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Decode business ID value.
+     *
+     * @param bytes bytes of header value
+     * @return String value.
+     */
+    public static String decode(final byte[] bytes) {
+        if (bytes.length == UUID_VALUE_LENGTH && bytes[0] == UUID_MARKER) {
+            char[] chars = new char[UUID_STRING_LENGTH];
+            int position = 0;
+            for (int i = 1; i < UUID_VALUE_LENGTH; i++) {
+                if (position == 8 || position == 13 || position == 18 || position == 23) {
+                    chars[position++] = '-';
+                }
+                chars[position++] = HEX_DIGITS[(bytes[i] >> 4) & 0xF];
+                chars[position++] = HEX_DIGITS[bytes[i] & 0xF];
+            }
+            return new String(chars);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static boolean isCanonicalUuid(final String value) {
+        if (value.length() != UUID_STRING_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < UUID_STRING_LENGTH; i++) {
+            char c = value.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if (!(c >= '0' && c <= '9' || c >= 'a' && c <= 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
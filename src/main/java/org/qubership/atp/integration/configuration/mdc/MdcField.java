@@ -26,7 +26,12 @@ public enum MdcField {
     /**
      * Name of MDC tag for user id.
      */
-    USER_ID("userId");
+    USER_ID("userId"),
+
+    /**
+     * Name of MDC tag for user action captured by AuditAction annotation.
+     */
+    USER_ACTION("userAction");
 
     private final String name;
 
@@ -0,0 +1,225 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.configuration.mdc;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Immutable snapshot of MDC, to carry MDC of one thread to tasks run on other threads.
+ * With Logback both capture and restore are reference handoffs: the snapshot shares the map of the capturing thread,
+ * which Logback copies on the next change instead of modifying it.
+ */
+public final class MdcSnapshot {
+
+    /**
+     * Snapshot of empty MDC.
+     */
+    public static final MdcSnapshot EMPTY = new MdcSnapshot(null);
+
+    /**
+     * MDC values, or null if MDC is empty.
+     */
+    private final Map<String, String> contextMap;
+
+    private MdcSnapshot(final Map<String, String> contextMap) {
+        this.contextMap = contextMap;
+    }
+
+    /**
+     * Capture MDC of the current thread.
+     *
+     * @return MdcSnapshot object.
+     */
+    public static MdcSnapshot capture() {
+        Map<String, String> contextMap = MdcUtils.getContextMapView();
+        return contextMap == null || contextMap.isEmpty() ? EMPTY : new MdcSnapshot(contextMap);
+    }
+
+    /**
+     * Set the snapshot as MDC of the current thread, replacing the current MDC.
+     */
+    public void restore() {
+        MdcUtils.setContextMapView(contextMap);
+    }
+
+    /**
+     * Set the snapshot as MDC of the current thread and return MDC the thread had before,
+     * so it can be restored when the task completes. Suits tasks which may run on the calling thread,
+     * like parallel stream operations. Nothing is allocated if the thread already has the snapshot as MDC.
+     *
+     * @return MdcSnapshot of the previous MDC.
+     */
+    public MdcSnapshot attach() {
+        Map<String, String> previous = MdcUtils.getContextMapView();
+        if (previous == contextMap) {
+            return this;
+        }
+        restore();
+        return previous == null || previous.isEmpty() ? EMPTY : new MdcSnapshot(previous);
+    }
+
+    /**
+     * Get MDC value.
+     *
+     * @param key String MDC key
+     * @return String value or null.
+     */
+    public String get(final String key) {
+        return contextMap == null ? null : contextMap.get(key);
+    }
+
+    /**
+     * Check whether the snapshot is empty.
+     *
+     * @return true if MDC was empty when captured.
+     */
+    public boolean isEmpty() {
+        return contextMap == null;
+    }
+
+    /**
+     * Get MDC values.
+     *
+     * @return unmodifiable Map of MDC values.
+     */
+    public Map<String, String> getContextMap() {
+        return contextMap == null ? Collections.emptyMap() : Collections.unmodifiableMap(contextMap);
+    }
+
+    /**
+     * Wrap task, so it runs with the snapshot as MDC; MDC the running thread had before is restored
+     * when the task completes. So a task run on the submitting thread, like with CallerRunsPolicy,
+     * keeps MDC of that thread, and a task run on a pool thread leaves MDC of that thread empty.
+     *
+     * @param task Runnable to wrap
+     * @return Runnable wrapped.
+     */
+    public Runnable wrap(final Runnable task) {
+        return () -> {
+            MdcSnapshot previous = attach();
+            try {
+                task.run();
+            } finally {
+                previous.restore();
+            }
+        };
+    }
+
+    /**
+     * Wrap task, so it runs with the snapshot as MDC; MDC the running thread had before is restored
+     * when the task completes.
+     *
+     * @param task Callable to wrap
+     * @param <T> type of task result
+     * @return Callable wrapped.
+     */
+    public <T> Callable<T> wrap(final Callable<T> task) {
+        return () -> {
+            MdcSnapshot previous = attach();
+            try {
+                return task.call();
+            } finally {
+                previous.restore();
+            }
+        };
+    }
+
+    /**
+     * Wrap supplier, so it runs with the snapshot as MDC; MDC the running thread had before is restored
+     * when the supplier completes. Named apart from {@link #wrap(Callable)}, so lambdas aren't ambiguous.
+     *
+     * @param supplier Supplier to wrap
+     * @param <T> type of supplier result
+     * @return Supplier wrapped.
+     */
+    public <T> Supplier<T> wrapSupplier(final Supplier<T> supplier) {
+        return () -> {
+            MdcSnapshot previous = attach();
+            try {
+                return supplier.get();
+            } finally {
+                previous.restore();
+            }
+        };
+    }
+
+    /**
+     * Wrap function, so it runs with the snapshot as MDC; MDC the running thread had before is restored
+     * when the function completes.
+     *
+     * @param function Function to wrap
+     * @param <T> type of function argument
+     * @param <R> type of function result
+     * @return Function wrapped.
+     */
+    public <T, R> Function<T, R> wrapFunction(final Function<T, R> function) {
+        return argument -> {
+            MdcSnapshot previous = attach();
+            try {
+                return function.apply(argument);
+            } finally {
+                previous.restore();
+            }
+        };
+    }
+
+    /**
+     * Wrap function, so it runs with the snapshot as MDC; MDC the running thread had before is restored
+     * when the function completes.
+     *
+     * @param function BiFunction to wrap
+     * @param <T> type of the first function argument
+     * @param <U> type of the second function argument
+     * @param <R> type of function result
+     * @return BiFunction wrapped.
+     */
+    public <T, U, R> BiFunction<T, U, R> wrapBiFunction(final BiFunction<T, U, R> function) {
+        return (first, second) -> {
+            MdcSnapshot previous = attach();
+            try {
+                return function.apply(first, second);
+            } finally {
+                previous.restore();
+            }
+        };
+    }
+
+    /**
+     * Wrap consumer, so it runs with the snapshot as MDC; MDC the running thread had before is restored
+     * when the consumer completes.
+     *
+     * @param consumer Consumer to wrap
+     * @param <T> type of consumer argument
+     * @return Consumer wrapped.
+     */
+    public <T> Consumer<T> wrapConsumer(final Consumer<T> consumer) {
+        return argument -> {
+            MdcSnapshot previous = attach();
+            try {
+                consumer.accept(argument);
+            } finally {
+                previous.restore();
+            }
+        };
+    }
+}
@@ -16,8 +16,10 @@
 
 package org.qubership.atp.integration.configuration.mdc;
 
+import java.lang.reflect.Field;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -28,10 +30,27 @@ import javax.servlet.http.HttpServletRequest;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.MDC;
+import org.slf4j.spi.MDCAdapter;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
 
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
 public class MdcUtils {
 
+    /**
+     * Whether Logback is available, so its MDC map can be read without copying.
+     */
+    private static final boolean LOGBACK_PRESENT = ClassUtils.isPresent(
+            "ch.qos.logback.classic.util.LogbackMDCAdapter", MdcUtils.class.getClassLoader());
+
+    /**
+     * Whether MDC maps are shared by threads rather than copied, see {@link LogbackMdc}.
+     */
+    private static volatile boolean mapSharing = isMapSharingAvailable();
+
     /**
      * Validate UUID value against null and put it (converted to String) into MDC.
      *
@@ -68,9 +87,19 @@ public class MdcUtils {
      * @return String header name calculated.
      */
     public static String convertIdNameToHeader(final String idName) {
-        return "X-" + Arrays.stream(idName.split("(?=\\p{Upper})"))
-                .map(org.springframework.util.StringUtils::capitalize)
-                .collect(Collectors.joining("-"));
+        StringBuilder header = new StringBuilder(idName.length() + 8).append("X-");
+        for (int i = 0; i < idName.length(); i++) {
+            char c = idName.charAt(i);
+            if (i == 0) {
+                header.append(Character.toTitleCase(c));
+            } else {
+                if (c >= 'A' && c <= 'Z') {
+                    header.append('-');
+                }
+                header.append(c);
+            }
+        }
+        return header.toString();
     }
 
     /**
@@ -81,10 +110,14 @@ public class MdcUtils {
      * @return String header value or null.
      */
     public static String getHeaderFromRequest(final HttpServletRequest request, final String headerName) {
-        if (request != null && request.getHeaderNames() != null) {
-            for (String originalHeaderName : Collections.list(request.getHeaderNames())) {
-                if (originalHeaderName.equalsIgnoreCase(headerName)) {
-                    return request.getHeader(originalHeaderName);
+        if (request != null) {
+            Enumeration<String> headerNames = request.getHeaderNames();
+            if (headerNames != null) {
+                while (headerNames.hasMoreElements()) {
+                    String originalHeaderName = headerNames.nextElement();
+                    if (originalHeaderName.equalsIgnoreCase(headerName)) {
+                        return request.getHeader(originalHeaderName);
+                    }
                 }
             }
         }
@@ -103,6 +136,42 @@ public class MdcUtils {
                 : Collections.emptyList();
     }
 
+    /**
+     * Get MDC of the current thread as a read-only map.
+     * With Logback the map of the current thread is returned without copying, so it must not be modified;
+     * Logback itself copies the map on the next change. With other MDC adapters a copy is returned.
+     *
+     * @return Map of MDC values, or null if MDC is empty.
+     */
+    public static Map<String, String> getContextMapView() {
+        MDCAdapter adapter = MDC.getMDCAdapter();
+        if (mapSharing && LogbackMdc.isLogback(adapter)) {
+            return LogbackMdc.getPropertyMap(adapter);
+        }
+        return MDC.getCopyOfContextMap();
+    }
+
+    /**
+     * Set a map obtained by {@link #getContextMapView()}, possibly on another thread, as MDC of the current thread.
+     * With Logback the map is set without copying: Logback never modifies a map once it's been read,
+     * but copies it on the next put or remove, so the map can be shared by threads.
+     * With other MDC adapters the map is copied.
+     *
+     * @param contextMapView Map of MDC values, or null to clear MDC.
+     */
+    public static void setContextMapView(final Map<String, String> contextMapView) {
+        if (contextMapView == null) {
+            MDC.clear();
+            return;
+        }
+        MDCAdapter adapter = MDC.getMDCAdapter();
+        boolean set = mapSharing && LogbackMdc.isLogback(adapter)
+                && LogbackMdc.setPropertyMap(adapter, contextMapView);
+        if (!set) {
+            MDC.setContextMap(contextMapView);
+        }
+    }
+
     /**
      * Set MDC for the current thread.
      *
@@ -111,4 +180,94 @@ public class MdcUtils {
     public static void setContextMap(final Map<String, String> mdcMap) {
         MDC.setContextMap(CollectionUtils.isEmpty(mdcMap) ? new HashMap<>() : mdcMap);
     }
+
+    /**
+     * Turn sharing of MDC maps by threads on, if it's available, or off, as if the MDC adapter didn't support it.
+     * Used by tests of the copying fallback.
+     *
+     * @param enabled false to copy MDC maps; true to share them if the MDC adapter supports it.
+     */
+    static void setMapSharing(final boolean enabled) {
+        mapSharing = enabled && isMapSharingAvailable();
+    }
+
+    private static boolean isMapSharingAvailable() {
+        MDCAdapter adapter = MDC.getMDCAdapter();
+        if (LOGBACK_PRESENT && LogbackMdc.isLogback(adapter) && LogbackMdc.available()) {
+            return true;
+        }
+        log.info("MDC maps are copied to propagate MDC to other threads, as MDC adapter {} isn't one of Logback 1.2 "
+                + "with accessible fields", adapter == null ? null : adapter.getClass().getName());
+        return false;
+    }
+
+    /**
+     * Access to Logback MDC, isolated so Logback classes are loaded only if Logback is present.
+     * Supports Logback 1.2.x only: its LogbackMDCAdapter keeps the map in 'copyOnThreadLocal' and never modifies
+     * a map once it has been read ('lastOperation' is 'MAP_COPY_OPERATION'), but copies it on the next change,
+     * so maps can be shared by threads. The fields aren't public and are accessed by reflection.
+     * Logback 1.3+ modifies the map in place and has no such fields, so MDC maps are copied there,
+     * as well as if the fields can't be accessed or another MDC adapter is used.
+     */
+    private static final class LogbackMdc {
+
+        /**
+         * Value of LogbackMDCAdapter last operation telling the map has been read, so it's copied before changes,
+         * or null if it isn't accessible.
+         */
+        private static final Integer MAP_COPY_OPERATION = findMapCopyOperation();
+
+        /**
+         * LogbackMDCAdapter thread local holding the map, or null if it isn't accessible.
+         */
+        private static final Field COPY_ON_THREAD_LOCAL = findField("copyOnThreadLocal");
+
+        /**
+         * LogbackMDCAdapter thread local holding the last operation, or null if it isn't accessible.
+         */
+        private static final Field LAST_OPERATION = findField("lastOperation");
+
+        private static boolean isLogback(final MDCAdapter adapter) {
+            return adapter instanceof LogbackMDCAdapter;
+        }
+
+        private static boolean available() {
+            return MAP_COPY_OPERATION != null && COPY_ON_THREAD_LOCAL != null && LAST_OPERATION != null;
+        }
+
+        private static Map<String, String> getPropertyMap(final MDCAdapter adapter) {
+            return ((LogbackMDCAdapter) adapter).getPropertyMap();
+        }
+
+        @SuppressWarnings("unchecked")
+        private static boolean setPropertyMap(final MDCAdapter adapter, final Map<String, String> map) {
+            try {
+                ((ThreadLocal<Map<String, String>>) COPY_ON_THREAD_LOCAL.get(adapter)).set(map);
+                ((ThreadLocal<Integer>) LAST_OPERATION.get(adapter)).set(MAP_COPY_OPERATION);
+                return true;
+            } catch (IllegalAccessException e) {
+                return false;
+            }
+        }
+
+        private static Integer findMapCopyOperation() {
+            try {
+                Field field = LogbackMDCAdapter.class.getDeclaredField("MAP_COPY_OPERATION");
+                field.setAccessible(true);
+                return int.class.equals(field.getType()) ? field.getInt(null) : null;
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                return null;
+            }
+        }
+
+        private static Field findField(final String name) {
+            try {
+                Field field = LogbackMDCAdapter.class.getDeclaredField(name);
+                field.setAccessible(true);
+                return ThreadLocal.class.equals(field.getType()) ? field : null;
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                return null;
+            }
+        }
+    }
 }
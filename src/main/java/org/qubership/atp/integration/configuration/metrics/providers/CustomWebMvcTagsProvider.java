@@ -38,6 +38,11 @@ public class CustomWebMvcTagsProvider implements WebMvcTagsProvider {
      */
     public static final String UNKNOWN_PROJECT = "unknown";
 
+    /**
+     * Name of header with project id.
+     */
+    private static final String PROJECT_ID_HEADER = MdcUtils.convertIdNameToHeader(MdcField.PROJECT_ID.toString());
+
     /**
      * Ignore Trailing Slash mode.
      */
@@ -102,8 +107,7 @@ public class CustomWebMvcTagsProvider implements WebMvcTagsProvider {
     }
 
     private Tags addProjectIdTag(final HttpServletRequest request, final Tags tags) {
-        String projectId = MdcUtils.getHeaderFromRequest(request,
-                MdcUtils.convertIdNameToHeader(MdcField.PROJECT_ID.toString()));
+        String projectId = MdcUtils.getHeaderFromRequest(request, PROJECT_ID_HEADER);
         projectId = projectId == null ? MDC.get(MdcField.PROJECT_ID.toString()) : projectId;
         return tags.and(Tag.of(MdcField.PROJECT_ID.toString(), projectId == null ? UNKNOWN_PROJECT : projectId));
     }
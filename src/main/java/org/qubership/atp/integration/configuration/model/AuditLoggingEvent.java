@@ -0,0 +1,81 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.configuration.model;
+
+import org.qubership.atp.integration.configuration.helpers.TokenClaims;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Immutable snapshot of request data needed to build an audit logging message.
+ * It is captured on the request thread, so the message can be built and sent later on another thread.
+ */
+@Getter
+@RequiredArgsConstructor
+public final class AuditLoggingEvent {
+
+    /**
+     * Request start (capture) time in milliseconds.
+     */
+    private final long startDate;
+
+    /**
+     * Request URI.
+     */
+    private final String url;
+
+    /**
+     * HTTP method.
+     */
+    private final String httpMethod;
+
+    /**
+     * Raw value of the project id header.
+     */
+    private final String projectId;
+
+    /**
+     * Claims parsed from the authorization token, or null.
+     */
+    private final TokenClaims tokenClaims;
+
+    /**
+     * Referer header value.
+     */
+    private final String refererPage;
+
+    /**
+     * Remote address of the client.
+     */
+    private final String ipAddress;
+
+    /**
+     * Raw User-Agent header value.
+     */
+    private final String userAgent;
+
+    /**
+     * User action from MDC.
+     */
+    private final String userAction;
+
+    /**
+     * HTTP response status code.
+     */
+    private final int httpStatusCode;
+}
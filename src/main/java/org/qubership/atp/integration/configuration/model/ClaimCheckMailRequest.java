@@ -0,0 +1,48 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.configuration.model;
+
+import java.util.List;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Mail request sent over Kafka with large content and attachments replaced by references to a blob store.
+ * The consumer reads the referenced blobs from the store and deletes them once the mail is sent.
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class ClaimCheckMailRequest extends MailRequest {
+
+    /**
+     * Reference to the email body, if the body is staged to the blob store instead of the content field.
+     */
+    private MailBlobReference contentReference;
+
+    /**
+     * References to non-inline attachments.
+     */
+    private List<MailBlobReference> attachments;
+
+    /**
+     * References to inline attachments.
+     */
+    private List<MailBlobReference> inlines;
+}
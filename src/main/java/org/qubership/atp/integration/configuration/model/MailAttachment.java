@@ -0,0 +1,96 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.configuration.model;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Mail attachment streamed from its source when the mail is sent, instead of being loaded into memory.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MailAttachment {
+
+    /**
+     * File name of attachment.
+     */
+    private final String fileName;
+
+    /**
+     * Source of attachment content.
+     */
+    private final Resource resource;
+
+    /**
+     * Content type of attachment.
+     */
+    private final MediaType contentType;
+
+    /**
+     * Create attachment of file.
+     *
+     * @param path Path of file
+     * @return new MailAttachment named as the file.
+     */
+    public static MailAttachment of(final Path path) {
+        return of(path.getFileName().toString(), new FileSystemResource(path), null);
+    }
+
+    /**
+     * Create attachment of input stream. The stream is read and closed when the mail is sent.
+     *
+     * @param fileName String file name of attachment
+     * @param inputStream InputStream of attachment content
+     * @return new MailAttachment.
+     */
+    public static MailAttachment of(final String fileName, final InputStream inputStream) {
+        return of(fileName, new InputStreamResource(inputStream), null);
+    }
+
+    /**
+     * Create attachment of resource.
+     *
+     * @param resource Resource of attachment content
+     * @return new MailAttachment named as the resource.
+     */
+    public static MailAttachment of(final Resource resource) {
+        return of(resource.getFilename(), resource, null);
+    }
+
+    /**
+     * Create attachment of resource.
+     *
+     * @param fileName String file name of attachment
+     * @param resource Resource of attachment content
+     * @param contentType MediaType of attachment, or null for application/octet-stream
+     * @return new MailAttachment.
+     */
+    public static MailAttachment of(final String fileName, final Resource resource, final MediaType contentType) {
+        return new MailAttachment(fileName, resource,
+                contentType == null ? MediaType.APPLICATION_OCTET_STREAM : contentType);
+    }
+}
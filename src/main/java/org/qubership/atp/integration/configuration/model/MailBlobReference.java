@@ -0,0 +1,46 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.configuration.model;
+
+import lombok.Data;
+
+/**
+ * Reference to mail content or attachment staged to a blob store, sent over Kafka instead of the content itself.
+ */
+@Data
+public class MailBlobReference {
+
+    /**
+     * Key of the blob, relative to the store root, so each side resolves it against its own store configuration.
+     */
+    private String key;
+
+    /**
+     * File name of attachment.
+     */
+    private String fileName;
+
+    /**
+     * Content type of the blob.
+     */
+    private String contentType;
+
+    /**
+     * Size of the blob (in bytes).
+     */
+    private long size;
+}
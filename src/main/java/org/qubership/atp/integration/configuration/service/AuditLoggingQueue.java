@@ -0,0 +1,273 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.configuration.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.qubership.atp.integration.configuration.model.AuditLoggingEvent;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounded queue of audit logging events processed by a single dedicated worker thread.
+ * Request threads only enqueue event snapshots; the worker drains them in batches
+ * and passes each event to the handler which builds and sends the message.
+ */
+@Slf4j
+public class AuditLoggingQueue implements MeterBinder {
+
+    /**
+     * Policy applied when an event is offered to the full queue.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Remove the oldest queued event to make room for the new one.
+         */
+        DROP_OLDEST,
+        /**
+         * Reject the new event.
+         */
+        DROP_NEWEST,
+        /**
+         * Wait for free space up to the block timeout, then reject the new event.
+         */
+        BLOCK
+    }
+
+    /**
+     * Time the worker waits for new events before checking whether it is stopped.
+     */
+    private static final long POLL_TIMEOUT_MS = 100;
+
+    /**
+     * Time to wait for the worker to send remaining events on close.
+     */
+    private static final long CLOSE_TIMEOUT_MS = 5000;
+
+    /**
+     * Queued events.
+     */
+    private final BlockingQueue<AuditLoggingEvent> queue;
+
+    /**
+     * Queue capacity.
+     */
+    private final int capacity;
+
+    /**
+     * Overflow policy.
+     */
+    private final OverflowPolicy overflowPolicy;
+
+    /**
+     * Max time to wait for free space with BLOCK policy, in milliseconds.
+     */
+    private final long blockTimeoutMs;
+
+    /**
+     * Max number of events drained by the worker at once.
+     */
+    private final int batchSize;
+
+    /**
+     * Handler which builds and sends the audit logging message for an event.
+     */
+    private final Consumer<AuditLoggingEvent> handler;
+
+    /**
+     * Worker thread.
+     */
+    private final Thread worker;
+
+    /**
+     * Number of events dropped because the queue was full.
+     */
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * Number of events passed to the handler.
+     */
+    private final AtomicLong processed = new AtomicLong();
+
+    /**
+     * Flag the worker keeps running while it is set.
+     */
+    private volatile boolean running = true;
+
+    /**
+     * Constructor. Starts the worker thread.
+     *
+     * @param capacity max number of queued events
+     * @param overflowPolicy policy applied when the queue is full
+     * @param blockTimeoutMs max time to wait for free space with BLOCK policy, in milliseconds
+     * @param batchSize max number of events drained by the worker at once
+     * @param handler handler which builds and sends the audit logging message for an event.
+     */
+    public AuditLoggingQueue(final int capacity,
+                             final OverflowPolicy overflowPolicy,
+                             final long blockTimeoutMs,
+                             final int batchSize,
+                             final Consumer<AuditLoggingEvent> handler) {
+        if (capacity <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("Audit logging queue capacity and batch size must be positive");
+        }
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutMs = blockTimeoutMs;
+        this.batchSize = batchSize;
+        this.handler = handler;
+        this.worker = new Thread(this::run, "atp-audit-logging");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Enqueue event according to the overflow policy.
+     *
+     * @param event AuditLoggingEvent to enqueue
+     * @return true if event is enqueued; false if it is dropped.
+     */
+    public boolean offer(final AuditLoggingEvent event) {
+        if (!running) {
+            dropped.incrementAndGet();
+            return false;
+        }
+        switch (overflowPolicy) {
+            case DROP_OLDEST:
+                while (!queue.offer(event)) {
+                    if (queue.poll() != null) {
+                        dropped.incrementAndGet();
+                    }
+                }
+                return true;
+            case BLOCK:
+                try {
+                    if (queue.offer(event, blockTimeoutMs, TimeUnit.MILLISECONDS)) {
+                        return true;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                break;
+            default:
+                if (queue.offer(event)) {
+                    return true;
+                }
+                break;
+        }
+        dropped.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * Get number of queued events.
+     *
+     * @return int number of events waiting for the worker.
+     */
+    public int size() {
+        return queue.size();
+    }
+
+    /**
+     * Get number of dropped events.
+     *
+     * @return long number of events dropped because the queue was full or closed.
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Stop accepting events and wait for the worker to process the queued ones.
+     */
+    public void close() {
+        running = false;
+        try {
+            worker.join(CLOSE_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            log.warn("{} audit logging events were not sent before shutdown", queue.size());
+        }
+    }
+
+    /**
+     * Register queue metrics.
+     *
+     * @param registry MeterRegistry to register metrics in.
+     */
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("atp.audit.logging.queue.size", queue, BlockingQueue::size)
+                .description("Number of audit logging events waiting to be sent")
+                .register(registry);
+        Gauge.builder("atp.audit.logging.queue.capacity", this, auditLoggingQueue -> auditLoggingQueue.capacity)
+                .description("Capacity of audit logging events queue")
+                .register(registry);
+        FunctionCounter.builder("atp.audit.logging.queue.dropped", dropped, AtomicLong::get)
+                .description("Number of audit logging events dropped because the queue was full")
+                .tag("policy", overflowPolicy.name())
+                .register(registry);
+        FunctionCounter.builder("atp.audit.logging.queue.processed", processed, AtomicLong::get)
+                .description("Number of audit logging events processed by the worker")
+                .register(registry);
+    }
+
+    private void run() {
+        final List<AuditLoggingEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                AuditLoggingEvent event = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (event == null) {
+                    continue;
+                }
+                batch.add(event);
+                queue.drainTo(batch, batchSize - 1);
+                for (AuditLoggingEvent batchEvent : batch) {
+                    process(batchEvent);
+                }
+            } catch (InterruptedException e) {
+                log.warn("Audit logging worker was interrupted");
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void process(final AuditLoggingEvent event) {
+        try {
+            handler.accept(event);
+        } catch (Exception e) {
+            log.error("Failed to process audit logging event", e);
+        } finally {
+            processed.incrementAndGet();
+        }
+    }
+}
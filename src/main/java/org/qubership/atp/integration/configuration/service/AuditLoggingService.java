@@ -16,25 +16,28 @@
 
 package org.qubership.atp.integration.configuration.service;
 
-import java.sql.Timestamp;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import org.apache.commons.lang3.StringUtils;
 import org.apache.http.HttpHeaders;
 import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.qubership.atp.integration.configuration.helpers.HttpRequestParseHelper;
 import org.qubership.atp.integration.configuration.helpers.JwtParseHelper;
+import org.qubership.atp.integration.configuration.helpers.TokenClaims;
+import org.qubership.atp.integration.configuration.helpers.TokenIdentity;
+import org.qubership.atp.integration.configuration.mdc.MdcField;
+import org.qubership.atp.integration.configuration.model.AuditLoggingEvent;
 import org.qubership.atp.integration.configuration.protos.KafkaAuditLoggingMessage.AuditLoggingMessage;
 import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Value;
 
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -73,64 +76,94 @@ public class AuditLoggingService {
      */
     private final HttpRequestParseHelper httpRequestParseHelper;
 
+    /**
+     * Queue of audit logging events; if null, messages are sent on the request thread.
+     */
+    @Setter
+    private AuditLoggingQueue auditLoggingQueue;
+
     /**
      * Logging of request.
+     * Request data is captured into an event snapshot; the message is built and sent
+     * by the audit logging queue worker if it is configured, otherwise immediately.
      *
      * @param request HttpServletRequest to process
      * @param response HttpServletResponse to process.
      */
     public void loggingRequest(final HttpServletRequest request, final HttpServletResponse response) {
         log.debug("Trying to log request");
+        final String userAction = MDC.get(MdcField.USER_ACTION.toString());
+        if (userAction == null) {
+            log.debug("Audit logging was skipped because user action isn't captured");
+            return;
+        }
         try {
-            final String url = request.getRequestURI();
-            final UUID id = UUID.randomUUID();
-            final UUID projectId = httpRequestParseHelper.getRequestUuidHeader(request, PROJECT_ID_HEADER_NAME, false);
             final String authToken = request.getHeader(HttpHeaders.AUTHORIZATION);
+            final AuditLoggingEvent event = new AuditLoggingEvent(
+                    System.currentTimeMillis(),
+                    request.getRequestURI(),
+                    request.getMethod(),
+                    request.getHeader(PROJECT_ID_HEADER_NAME),
+                    jwtParseHelper.getTokenClaimsFromRequest(request, authToken),
+                    request.getHeader("referer"),
+                    request.getRemoteAddr(),
+                    request.getHeader("User-Agent"),
+                    userAction,
+                    response.getStatus());
+            if (auditLoggingQueue == null) {
+                loggingEvent(event);
+            } else if (!auditLoggingQueue.offer(event)) {
+                log.debug("Audit logging event was dropped because the queue is full");
+            }
+        } catch (Exception err) {
+            log.error("Failed to log request", err);
+        }
+    }
+
+    /**
+     * Build audit logging message from event and send it.
+     *
+     * @param event AuditLoggingEvent captured from request.
+     */
+    public void loggingEvent(final AuditLoggingEvent event) {
+        try {
+            final UUID id = UUID.randomUUID();
+            final UUID projectId = StringUtils.isEmpty(event.getProjectId())
+                    ? null : UUID.fromString(event.getProjectId());
 
-            final UUID sessionId;
+            final TokenIdentity identity;
             final String username;
-            final UUID userId;
-            Map<String, ?> tokenDataMap = jwtParseHelper.getTokenDataMapFromToken(authToken);
-            if (tokenDataMap != null) {
-                sessionId = jwtParseHelper.getSessionIdFromTokenDataMap(tokenDataMap);
-                username = jwtParseHelper.getUsernameFromTokenDataMap(tokenDataMap);
-                userId = jwtParseHelper.getUserIdFromTokenDataMap(tokenDataMap);
+            TokenClaims tokenClaims = event.getTokenClaims();
+            if (tokenClaims != null) {
+                identity = tokenClaims.getIdentity();
+                username = tokenClaims.getUsername();
             } else {
-                sessionId = null;
+                identity = TokenIdentity.EMPTY;
                 username = null;
-                userId = null;
             }
-            if (userId == null || sessionId == null) {
-                throw new IllegalStateException("UserId and/or SessionId (parsed from token) are null");
-            }
-
-            final Timestamp startDate = new Timestamp(System.currentTimeMillis());
-            final String httpMethod = request.getMethod();
-            final String refererPage = request.getHeader("referer");
-            final String ipAddress = request.getRemoteAddr();
-            final String userAgent = httpRequestParseHelper.getBrowserAgent(request.getHeader("User-Agent"));
-            final int httpStatusCode = response.getStatus();
-
-            Map<String, String> mdcMap = MDC.getCopyOfContextMap();
-            if (mdcMap == null) {
-                mdcMap = new HashMap<>();
+            if (!identity.hasUserId() || !identity.hasSessionId()) {
+                throw new IllegalStateException("UserId " + describeId(identity.hasUserId(),
+                        identity.getUserIdString()) + ", SessionId " + describeId(identity.hasSessionId(),
+                        identity.getSessionIdString()) + " (parsed from token)");
             }
+            final UUID sessionId = identity.getSessionId();
+            final String userAgent = httpRequestParseHelper.getBrowserAgent(event.getUserAgent());
 
             AuditLoggingMessage message = AuditLoggingMessage.newBuilder()
                     .setId(id.toString())
-                    .setSessionId(Objects.toString(sessionId, "null"))
+                    .setSessionId(identity.getSessionIdString())
                     .setProjectId(Objects.toString(projectId, "null"))
                     .setService(Objects.toString(serviceName, "null"))
                     .setUsername(Objects.toString(username, "null"))
-                    .setUserId(userId.toString())
-                    .setUrl(Objects.toString(url, "null"))
-                    .setStartDate(startDate.getTime())
-                    .setHttpMethod(Objects.toString(httpMethod, "null"))
-                    .setReferPage(Objects.toString(refererPage, "null"))
-                    .setIpAddress(Objects.toString(ipAddress, "null"))
+                    .setUserId(identity.getUserIdString())
+                    .setUrl(Objects.toString(event.getUrl(), "null"))
+                    .setStartDate(event.getStartDate())
+                    .setHttpMethod(Objects.toString(event.getHttpMethod(), "null"))
+                    .setReferPage(Objects.toString(event.getRefererPage(), "null"))
+                    .setIpAddress(Objects.toString(event.getIpAddress(), "null"))
                     .setUserAgent(userAgent)
-                    .setUserAction(Objects.toString(mdcMap.get("userAction"), "null"))
-                    .setHttpStatusCode(httpStatusCode)
+                    .setUserAction(Objects.toString(event.getUserAction(), "null"))
+                    .setHttpStatusCode(event.getHttpStatusCode())
                     .build();
 
             if (!message.getUserAction().equals("null")) {
@@ -142,4 +175,11 @@ public class AuditLoggingService {
             log.error("Failed to log request", err);
         }
     }
+
+    private static String describeId(final boolean valid, final String value) {
+        if (valid) {
+            return "is valid";
+        }
+        return value == null ? "is absent" : "is not a UUID: '" + value + "'";
+    }
 }
@@ -0,0 +1,81 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.configuration.service;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Executor queueing tasks to be run by the thread waiting for a result, instead of a thread pool.
+ * Synchronous sending uses it, so REST requests run on the calling thread whichever thread completes Kafka sending,
+ * and never wait for free threads of a pool the caller itself may occupy, like the application task executor.
+ */
+final class CallerRunsExecutor implements Executor {
+
+    /**
+     * Task waking up the waiting thread when the future is completed.
+     */
+    private static final Runnable WAKE_UP = () -> { };
+
+    /**
+     * Tasks to run by the waiting thread.
+     */
+    private final BlockingQueue<Runnable> tasks = new LinkedBlockingQueue<>();
+
+    @Override
+    public void execute(final Runnable task) {
+        tasks.add(task);
+    }
+
+    /**
+     * Run tasks queued so far.
+     */
+    void runPending() {
+        for (Runnable task = tasks.poll(); task != null; task = tasks.poll()) {
+            task.run();
+        }
+    }
+
+    /**
+     * Wait for the future running queued tasks meanwhile. Like {@link CompletableFuture#join()},
+     * waiting isn't interrupted, but the interrupt status of the thread is kept.
+     *
+     * @param future CompletableFuture to wait for
+     * @param <T> type of result
+     * @return result of the future.
+     */
+    <T> T join(final CompletableFuture<T> future) {
+        future.whenComplete((result, ex) -> tasks.add(WAKE_UP));
+        boolean interrupted = false;
+        try {
+            while (!future.isDone()) {
+                try {
+                    tasks.take().run();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return future.join();
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.configuration.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import org.qubership.atp.integration.configuration.model.MailAttachment;
+import org.qubership.atp.integration.configuration.model.MailBlobReference;
+
+/**
+ * Blob store keeping blobs as files in a directory shared with mail-sender, like a mounted volume.
+ * Keys of blobs are file names, so the directory may be mounted at different paths by each side.
+ */
+public class FileSystemMailBlobStore implements MailBlobStore {
+
+    /**
+     * Directory of blobs.
+     */
+    private final Path directory;
+
+    /**
+     * Constructor; the directory is created if it doesn't exist.
+     *
+     * @param directory Path of directory of blobs
+     * @throws IOException in case the directory can't be created.
+     */
+    public FileSystemMailBlobStore(final Path directory) throws IOException {
+        this.directory = Files.createDirectories(directory).toAbsolutePath().normalize();
+    }
+
+    /**
+     * Copy attachment content to a new file named by random UUID, so file names of attachments don't clash.
+     *
+     * @param attachment MailAttachment to store
+     * @return MailBlobReference with the name of the new file as the key.
+     * @throws IOException in case the content can't be read or written.
+     */
+    @Override
+    public MailBlobReference store(final MailAttachment attachment) throws IOException {
+        String key = UUID.randomUUID().toString();
+        Path file = directory.resolve(key);
+        long size;
+        try (InputStream content = attachment.getResource().getInputStream()) {
+            size = Files.copy(content, file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        MailBlobReference reference = new MailBlobReference();
+        reference.setKey(key);
+        reference.setFileName(attachment.getFileName());
+        reference.setContentType(attachment.getContentType().toString());
+        reference.setSize(size);
+        return reference;
+    }
+
+    /**
+     * Delete file of blob; keys resolved outside the directory of blobs are rejected.
+     *
+     * @param reference MailBlobReference to the blob
+     * @throws IOException in case the file can't be deleted.
+     */
+    @Override
+    public void delete(final MailBlobReference reference) throws IOException {
+        Files.deleteIfExists(resolve(reference.getKey()));
+    }
+
+    /**
+     * Resolve key of blob against the directory of blobs.
+     *
+     * @param key String key of blob
+     * @return Path of the blob file.
+     * @throws IOException in case the key refers to a file outside the directory of blobs.
+     */
+    public Path resolve(final String key) throws IOException {
+        Path file = directory.resolve(key).normalize();
+        if (!directory.equals(file.getParent())) {
+            throw new IOException("Blob " + key + " isn't in the store directory " + directory);
+        }
+        return file;
+    }
+}
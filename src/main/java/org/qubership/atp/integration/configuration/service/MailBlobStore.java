@@ -0,0 +1,46 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.configuration.service;
+
+import java.io.IOException;
+
+import org.qubership.atp.integration.configuration.model.MailAttachment;
+import org.qubership.atp.integration.configuration.model.MailBlobReference;
+
+/**
+ * Store shared with mail-sender, holding mail content and attachments too big for Kafka,
+ * so only references to them are sent over Kafka.
+ */
+public interface MailBlobStore {
+
+    /**
+     * Write attachment content to the store, reading it from its source.
+     *
+     * @param attachment MailAttachment to store
+     * @return MailBlobReference to the stored blob.
+     * @throws IOException in case the content can't be read or written.
+     */
+    MailBlobReference store(MailAttachment attachment) throws IOException;
+
+    /**
+     * Delete blob from the store, like a blob staged for a mail which couldn't be sent over Kafka.
+     *
+     * @param reference MailBlobReference to the blob
+     * @throws IOException in case the blob can't be deleted.
+     */
+    void delete(MailBlobReference reference) throws IOException;
+}
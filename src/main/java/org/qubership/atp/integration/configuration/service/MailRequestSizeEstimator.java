@@ -0,0 +1,118 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.configuration.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.qubership.atp.integration.configuration.model.MailRequest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Checks whether mail request fits into Kafka record of limited size before it's sent.
+ * Kafka producer compares the size of the uncompressed record with 'max.request.size' before compression,
+ * so compression (lz4 by default) doesn't let bigger mails in, and the size is estimated uncompressed.
+ * Most mails are checked by lengths of their strings only; JSON is serialized, just counting bytes,
+ * only for mails close to the limit or having metadata.
+ */
+@Slf4j
+@RequiredArgsConstructor
+class MailRequestSizeEstimator {
+
+    /**
+     * Bytes reserved for record batch header, UUID key and record headers, like JSON type info and business IDs.
+     */
+    static final int RECORD_OVERHEAD_BYTES = 1024;
+
+    /**
+     * Max bytes of JSON of a char: UTF-8 takes up to 3 bytes, JSON escape of a control char takes 6.
+     */
+    private static final int MAX_JSON_BYTES_PER_CHAR = 6;
+
+    /**
+     * Max bytes of JSON syntax and field names of mail request.
+     */
+    private static final int MAX_JSON_SYNTAX_BYTES = 256;
+
+    /**
+     * Object Mapper serializing mail requests like Kafka value serializer does.
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Check whether mail request fits into Kafka record.
+     *
+     * @param mail mail request parameters
+     * @param maxRecordSize max size of Kafka record in bytes, or 0 to not check the size
+     * @return true if mail request fits or size isn't checked; otherwise false.
+     */
+    boolean fits(final MailRequest mail, final int maxRecordSize) {
+        if (maxRecordSize <= 0) {
+            return true;
+        }
+        long limit = maxRecordSize - RECORD_OVERHEAD_BYTES;
+        long chars = length(mail.getService()) + length(mail.getFrom()) + length(mail.getTo())
+                + length(mail.getCc()) + length(mail.getSubject()) + length(mail.getContent());
+        if (chars > limit) {
+            return false;
+        }
+        boolean noMetadata = mail.getMetadata() == null || mail.getMetadata().isEmpty();
+        if (noMetadata && chars * MAX_JSON_BYTES_PER_CHAR + MAX_JSON_SYNTAX_BYTES <= limit) {
+            return true;
+        }
+        return serializedSize(mail) <= limit;
+    }
+
+    private long serializedSize(final MailRequest mail) {
+        CountingOutputStream out = new CountingOutputStream();
+        try {
+            objectMapper.writeValue(out, mail);
+            return out.count;
+        } catch (IOException e) {
+            log.warn("Failed to estimate size of mail request, it's sent as is", e);
+            return 0;
+        }
+    }
+
+    private static long length(final String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    /**
+     * Output stream counting bytes written instead of keeping them.
+     */
+    private static final class CountingOutputStream extends OutputStream {
+
+        /**
+         * Number of bytes written.
+         */
+        private long count;
+
+        @Override
+        public void write(final int b) {
+            count++;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            count += len;
+        }
+    }
+}
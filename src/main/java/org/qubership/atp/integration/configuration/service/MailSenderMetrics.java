@@ -0,0 +1,92 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.configuration.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Counters of mail requests by transport chosen and the reason.
+ * Kept apart from {@link MailSenderService}, so binding metrics doesn't create the service and its clients.
+ */
+public class MailSenderMetrics implements MeterBinder {
+
+    /**
+     * Transport chosen for a mail request and the reason.
+     */
+    enum Route {
+        KAFKA_WITHIN_SIZE_LIMIT("kafka", "within_size_limit"),
+        KAFKA_CLAIM_CHECK("kafka", "claim_check"),
+        REST_KAFKA_DISABLED("rest", "kafka_disabled"),
+        REST_ATTACHMENTS("rest", "attachments"),
+        REST_OVER_SIZE_LIMIT("rest", "over_size_limit"),
+        REST_RECORD_TOO_LARGE("rest", "record_too_large"),
+        REST_CLAIM_CHECK_FAILED("rest", "claim_check_failed");
+
+        /**
+         * Value of transport tag.
+         */
+        private final String transport;
+
+        /**
+         * Value of reason tag.
+         */
+        private final String reason;
+
+        Route(final String transport, final String reason) {
+            this.transport = transport;
+            this.reason = reason;
+        }
+    }
+
+    /**
+     * Number of mail requests by route.
+     */
+    private final AtomicLong[] routed = new AtomicLong[Route.values().length];
+
+    /**
+     * Constructor.
+     */
+    public MailSenderMetrics() {
+        for (int i = 0; i < routed.length; i++) {
+            routed[i] = new AtomicLong();
+        }
+    }
+
+    /**
+     * Register metric of mail requests by transport chosen and the reason.
+     *
+     * @param registry MeterRegistry to register metrics in.
+     */
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        for (Route route : Route.values()) {
+            FunctionCounter.builder("atp.mail.sender.requests", routed[route.ordinal()], AtomicLong::get)
+                    .description("Number of mail requests by transport chosen and the reason")
+                    .tag("transport", route.transport)
+                    .tag("reason", route.reason)
+                    .register(registry);
+        }
+    }
+
+    void count(final Route route) {
+        routed[route.ordinal()].incrementAndGet();
+    }
+}
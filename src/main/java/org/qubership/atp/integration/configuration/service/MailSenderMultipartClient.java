@@ -0,0 +1,238 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.configuration.service;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.qubership.atp.integration.configuration.feign.FeignClientSettings;
+import org.qubership.atp.integration.configuration.feign.MailSenderFeignClient;
+import org.qubership.atp.integration.configuration.model.MailAttachment;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.RequestEntity;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.client.DefaultResponseErrorHandler;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import feign.Feign;
+import feign.Request;
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+import feign.Response;
+import feign.RetryableException;
+import feign.Retryer;
+import feign.Target;
+
+/**
+ * Client of mail-sender REST API streaming attachments.
+ * Feign encodes the whole request body into a byte array, so attachments would be held in heap.
+ * This client writes the multipart body straight to the connection with chunked transfer encoding,
+ * reading attachments from their sources by small buffers, so heap use doesn't depend on attachment size.
+ * Otherwise it behaves like the mail-sender Feign client, with its {@link FeignClientSettings}:
+ * timeouts are taken from its request options; headers, like business IDs and authorization, are set by its
+ * request interceptors applied to a request template with the Feign target of mail-sender, its URL, method and path;
+ * non-2xx responses are turned into exceptions by its error decoder, and retryable failures are retried
+ * by its retryer if all attachments can be read again.
+ */
+public class MailSenderMultipartClient {
+
+    /**
+     * Path of mail-sender endpoint.
+     */
+    static final String SEND_PATH = "/api/v1/mail-sender/mail/send";
+
+    /**
+     * Config key of the Feign client method sending mail with attachments, seen by error decoder.
+     */
+    static final String CONFIG_KEY = Feign.configKey(MailSenderFeignClient.class, ReflectionUtils.findMethod(
+            MailSenderFeignClient.class, "sendWithAttachment", String.class, List.class, List.class));
+
+    /**
+     * Supplier of base URI of mail-sender, like an instance chosen by load balancer.
+     */
+    private final Supplier<URI> baseUri;
+
+    /**
+     * Route of mail-sender.
+     */
+    private final String route;
+
+    /**
+     * Feign target of mail-sender, seen by request interceptors.
+     */
+    private final Target<?> feignTarget;
+
+    /**
+     * Settings of the mail-sender Feign client.
+     */
+    private final FeignClientSettings feignSettings;
+
+    /**
+     * RestTemplate not buffering request body and returning responses of any status.
+     */
+    private final RestTemplate restTemplate;
+
+    /**
+     * Constructor.
+     *
+     * @param baseUri Supplier of base URI of mail-sender
+     * @param route String route of mail-sender
+     * @param feignTarget Target of the mail-sender Feign client, seen by request interceptors
+     * @param feignSettings FeignClientSettings of the mail-sender Feign client
+     * @param chunkSize int size of chunks of request body in bytes.
+     */
+    public MailSenderMultipartClient(final Supplier<URI> baseUri,
+                                     final String route,
+                                     final Target<?> feignTarget,
+                                     final FeignClientSettings feignSettings,
+                                     final int chunkSize) {
+        this.baseUri = baseUri;
+        this.route = route == null ? "" : route;
+        this.feignTarget = feignTarget;
+        this.feignSettings = feignSettings;
+        Request.Options options = feignSettings.getOptions();
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setBufferRequestBody(false);
+        requestFactory.setChunkSize(chunkSize);
+        requestFactory.setConnectTimeout(options.connectTimeoutMillis());
+        requestFactory.setReadTimeout(options.readTimeoutMillis());
+        // No interceptors must be added: intercepted requests buffer the body.
+        this.restTemplate = new RestTemplate(requestFactory);
+        this.restTemplate.setErrorHandler(new DefaultResponseErrorHandler() {
+            @Override
+            public boolean hasError(final ClientHttpResponse response) {
+                return false;
+            }
+        });
+    }
+
+    /**
+     * Send mail with attachments to mail-sender.
+     *
+     * @param mail String mail request as JSON
+     * @param attachments List of non-inline attachments, or null
+     * @param inlines List of inline attachments, or null
+     * @return ResponseEntity of mail-sender.
+     * @throws feign.FeignException in case mail-sender responds with non-2xx status or can't be reached,
+     *     or other exception of the error decoder of the mail-sender Feign client.
+     */
+    public ResponseEntity<String> send(final String mail,
+                                       final List<MailAttachment> attachments,
+                                       final List<MailAttachment> inlines) {
+        MultiValueMap<String, Object> parts = new LinkedMultiValueMap<>();
+        HttpHeaders mailHeaders = new HttpHeaders();
+        mailHeaders.setContentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8));
+        parts.add("mail", new HttpEntity<>(mail, mailHeaders));
+        addParts(parts, "attachment", attachments);
+        addParts(parts, "inline", inlines);
+        boolean rereadable = isRereadable(attachments) && isRereadable(inlines);
+
+        Retryer retryer = feignSettings.getRetryer().clone();
+        while (true) {
+            try {
+                return execute(parts);
+            } catch (RetryableException e) {
+                if (!rereadable) {
+                    throw e;
+                }
+                retryer.continueOrPropagate(e);
+            }
+        }
+    }
+
+    private ResponseEntity<String> execute(final MultiValueMap<String, Object> parts) {
+        URI target = UriComponentsBuilder.fromUri(baseUri.get()).path(route).build().toUri();
+        RequestTemplate template = new RequestTemplate()
+                .method(Request.HttpMethod.POST)
+                .target(target.toString())
+                .uri(SEND_PATH);
+        template.feignTarget(feignTarget);
+        for (RequestInterceptor requestInterceptor : feignSettings.getRequestInterceptors()) {
+            requestInterceptor.apply(template);
+        }
+        HttpHeaders headers = new HttpHeaders();
+        template.headers().forEach((name, values) -> headers.addAll(name, new ArrayList<>(values)));
+        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+        URI uri = UriComponentsBuilder.fromUri(target).path(SEND_PATH).build().toUri();
+        Request request = Request.create(Request.HttpMethod.POST, uri.toString(), template.headers(),
+                null, StandardCharsets.UTF_8, template);
+        ResponseEntity<byte[]> response;
+        try {
+            response = restTemplate.exchange(new RequestEntity<>(parts, headers, HttpMethod.POST, uri), byte[].class);
+        } catch (ResourceAccessException e) {
+            throw new RetryableException(-1, String.format("%s executing %s %s", e.getMessage(),
+                    request.httpMethod(), request.url()), request.httpMethod(), e, null, request);
+        }
+        byte[] body = response.getBody();
+        if (response.getStatusCode().is2xxSuccessful()) {
+            return ResponseEntity.status(response.getStatusCode()).headers(response.getHeaders())
+                    .body(body == null ? null : new String(body, StandardCharsets.UTF_8));
+        }
+        Map<String, Collection<String>> responseHeaders = new LinkedHashMap<>(response.getHeaders());
+        Exception exception = feignSettings.getErrorDecoder().decode(CONFIG_KEY, Response.builder()
+                .status(response.getStatusCodeValue())
+                .reason(response.getStatusCode().getReasonPhrase())
+                .headers(responseHeaders)
+                .body(body)
+                .request(request)
+                .build());
+        if (exception instanceof RuntimeException) {
+            throw (RuntimeException) exception;
+        }
+        throw new UndeclaredThrowableException(exception);
+    }
+
+    private static boolean isRereadable(final List<MailAttachment> attachments) {
+        return attachments == null || attachments.stream().noneMatch(attachment -> attachment.getResource().isOpen());
+    }
+
+    private void addParts(final MultiValueMap<String, Object> parts,
+                          final String name,
+                          final List<MailAttachment> attachments) {
+        if (attachments == null) {
+            return;
+        }
+        for (MailAttachment attachment : attachments) {
+            HttpHeaders partHeaders = new HttpHeaders();
+            partHeaders.setContentDisposition(ContentDisposition.formData()
+                    .name(name)
+                    .filename(attachment.getFileName())
+                    .build());
+            partHeaders.setContentType(attachment.getContentType());
+            parts.add(name, new HttpEntity<Resource>(attachment.getResource(), partHeaders));
+        }
+    }
+}
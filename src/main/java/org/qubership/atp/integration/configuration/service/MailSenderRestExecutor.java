@@ -0,0 +1,83 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.configuration.service;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Bounded thread pool running REST requests and blob staging of asynchronous mail sending.
+ * Blocking Feign calls don't compete with parallel streams in the common pool, nor with @Async methods.
+ * It isn't an {@link Executor} itself, so a bean of it doesn't replace the application task executor of Spring Boot.
+ * When the queue is full, sending is rejected and reported by the response status.
+ */
+public class MailSenderRestExecutor {
+
+    /**
+     * Time idle threads are kept alive (in seconds).
+     */
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    /**
+     * Time to wait for running requests on shutdown (in seconds).
+     */
+    private static final long AWAIT_TERMINATION_SECONDS = 30;
+
+    /**
+     * Thread pool.
+     */
+    private final ThreadPoolExecutor threadPool;
+
+    /**
+     * Constructor.
+     *
+     * @param poolSize int max number of threads
+     * @param queueCapacity int max number of queued requests.
+     */
+    public MailSenderRestExecutor(final int poolSize, final int queueCapacity) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("mail-sender-rest-");
+        threadFactory.setDaemon(true);
+        threadPool = new ThreadPoolExecutor(poolSize, poolSize, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity), threadFactory);
+        threadPool.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Get executor of the thread pool.
+     *
+     * @return Executor running tasks by the thread pool.
+     */
+    public Executor getExecutor() {
+        return threadPool;
+    }
+
+    /**
+     * Stop accepting tasks and wait for running ones to complete.
+     */
+    public void shutdown() {
+        threadPool.shutdown();
+        try {
+            threadPool.awaitTermination(AWAIT_TERMINATION_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
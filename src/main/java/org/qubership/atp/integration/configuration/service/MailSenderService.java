@@ -16,21 +16,39 @@
 
 package org.qubership.atp.integration.configuration.service;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.qubership.atp.integration.configuration.decorators.MdcPropagation;
 import org.qubership.atp.integration.configuration.feign.MailSenderFeignClient;
+import org.qubership.atp.integration.configuration.mdc.MdcSnapshot;
+import org.qubership.atp.integration.configuration.model.ClaimCheckMailRequest;
+import org.qubership.atp.integration.configuration.model.MailAttachment;
+import org.qubership.atp.integration.configuration.model.MailBlobReference;
 import org.qubership.atp.integration.configuration.model.MailRequest;
 import org.qubership.atp.integration.configuration.model.MailResponse;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.support.SendResult;
+import org.springframework.kafka.support.JacksonUtils;
 import org.springframework.util.StringUtils;
-import org.springframework.util.concurrent.ListenableFuture;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -42,6 +60,16 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class MailSenderService {
 
+    /**
+     * Default number of threads running REST requests of asynchronous sending.
+     */
+    public static final int DEFAULT_REST_POOL_SIZE = 4;
+
+    /**
+     * Default max number of queued REST requests of asynchronous sending.
+     */
+    public static final int DEFAULT_REST_QUEUE_CAPACITY = 1000;
+
     /**
      * Kafka Template.
      */
@@ -52,11 +80,38 @@ public class MailSenderService {
      */
     private final MailSenderFeignClient mailSenderFeignClient;
 
+    /**
+     * Executor of blocking work of asynchronous sending, like REST fallback of mails too big for Kafka
+     * and staging of mails to the blob store. Synchronous sending does such work on the calling thread.
+     */
+    private final Executor restExecutor;
+
+    /**
+     * Counters of mail requests by transport chosen and the reason.
+     */
+    private final MailSenderMetrics metrics;
+
+    /**
+     * Client streaming attachments to mail-sender, or null if streaming isn't configured.
+     */
+    private final MailSenderMultipartClient multipartClient;
+
+    /**
+     * Blob store for claim-check sending of large mails and attachments over Kafka, or null to send them via REST.
+     */
+    private final MailBlobStore blobStore;
+
     /**
      * Object Mapper.
      */
     private final ObjectMapper objectMapper = new ObjectMapper();
 
+    /**
+     * Estimator of size of mail requests, serializing them like Kafka JsonSerializer does.
+     */
+    private final MailRequestSizeEstimator sizeEstimator =
+            new MailRequestSizeEstimator(JacksonUtils.enhancedObjectMapper());
+
     /**
      * Topic name.
      */
@@ -69,21 +124,133 @@ public class MailSenderService {
     @Value("${spring.application.name}")
     private String serviceName;
 
+    /**
+     * Maximum Kafka message size (in bytes); bigger mails are sent via REST.
+     */
+    @Value("${kafka.mails.message.size:15728640}")
+    private int maxMessageSize;
+
+    /**
+     * Size of mail (in bytes) above which the email body is staged to the blob store, if it's configured.
+     */
+    @Value("${kafka.mails.claim-check.threshold:1048576}")
+    private int claimCheckThreshold;
+
+    /**
+     * Constructor; REST requests of asynchronous sending run in a dedicated bounded thread pool.
+     *
+     * @param kafkaTemplate KafkaTemplate to send mails, or null to send mails via REST only
+     * @param mailSenderFeignClient MailSenderFeignClient to send mails via REST.
+     */
+    public MailSenderService(final KafkaTemplate<UUID, MailRequest> kafkaTemplate,
+                             final MailSenderFeignClient mailSenderFeignClient) {
+        this(kafkaTemplate, mailSenderFeignClient,
+                new MailSenderRestExecutor(DEFAULT_REST_POOL_SIZE, DEFAULT_REST_QUEUE_CAPACITY).getExecutor(),
+                new MailSenderMetrics(), null, null);
+    }
 
     /**
      * Sends mail via kafka, if possible, or via rest.
+     * REST requests run on the calling thread.
      *
      * @param mail mail request parameters
      * @return result of sending mail.
      */
     public MailResponse send(final MailRequest mail) {
-        if (StringUtils.isEmpty(mail.getService())) {
-            mail.setService(serviceName);
-        }
         if (kafkaTemplate == null) {
+            setDefaultService(mail);
+            metrics.count(MailSenderMetrics.Route.REST_KAFKA_DISABLED);
             return sendViaRest(mail);
         }
-        return sendViaKafka(mail);
+        CallerRunsExecutor callerRuns = new CallerRunsExecutor();
+        return callerRuns.join(sendAsync(mail, callerRuns));
+    }
+
+    /**
+     * Sends mail via kafka, if possible, or via rest, without waiting for the result.
+     * The future is completed when Kafka acknowledges the mail request, or fails to send it
+     * within the delivery timeout ('kafka.mails.delivery.timeout.ms'). A mail too big for Kafka
+     * ('kafka.mails.message.size') is sent via REST, by the REST executor, without trying Kafka.
+     * If the blob store is configured, the body of a mail bigger than 'kafka.mails.claim-check.threshold'
+     * is staged to the store and the mail is sent over Kafka with a reference to it; REST is the last resort then.
+     * Failures are reported by the response status, the future isn't completed exceptionally.
+     *
+     * @param mail mail request parameters
+     * @return CompletableFuture of the result of sending mail.
+     */
+    public CompletableFuture<MailResponse> sendAsync(final MailRequest mail) {
+        return sendAsync(mail, restExecutor);
+    }
+
+    /**
+     * Sends mail via kafka, if possible, or via rest, running REST requests and blob staging by the executor.
+     *
+     * @param mail mail request parameters
+     * @param executor Executor of REST requests and blob staging
+     * @return CompletableFuture of the result of sending mail.
+     */
+    private CompletableFuture<MailResponse> sendAsync(final MailRequest mail, final Executor executor) {
+        setDefaultService(mail);
+        Supplier<MailResponse> restSending = MdcPropagation.supplier(() -> sendViaRest(mail));
+        if (kafkaTemplate == null) {
+            metrics.count(MailSenderMetrics.Route.REST_KAFKA_DISABLED);
+            return supplyRest(restSending, executor);
+        }
+        if (blobStore != null && !sizeEstimator.fits(mail, claimCheckThreshold)) {
+            metrics.count(MailSenderMetrics.Route.KAFKA_CLAIM_CHECK);
+            return sendViaClaimCheck(mail, true, Collections.emptyList(), Collections.emptyList(), restSending,
+                    executor);
+        }
+        if (!sizeEstimator.fits(mail, maxMessageSize)) {
+            log.warn("The mail is too big to send to kafka. Send it via REST");
+            metrics.count(MailSenderMetrics.Route.REST_OVER_SIZE_LIMIT);
+            return supplyRest(restSending, executor);
+        }
+        metrics.count(MailSenderMetrics.Route.KAFKA_WITHIN_SIZE_LIMIT);
+        return sendViaKafka(mail)
+                .handle((response, ex) -> ex == null
+                        ? CompletableFuture.completedFuture(response)
+                        : handleKafkaFailure(ex, restSending, executor))
+                .thenCompose(Function.identity())
+                .exceptionally(ex -> {
+                    log.error("Failed to send mail", ex);
+                    return getKafkaErrorResponse(ex);
+                });
+    }
+
+    /**
+     * Sends mails via kafka, if possible, or via rest.
+     * All mail requests are handed to the producer without waiting for each other and the producer is flushed once,
+     * so mails are sent in producer batches instead of a broker round trip per mail.
+     * Only mails too big for Kafka are sent via REST, on the calling thread.
+     *
+     * @param mails mail requests parameters
+     * @return List of results of sending mails, in the order of mails.
+     */
+    public List<MailResponse> sendAll(final Collection<MailRequest> mails) {
+        List<MailResponse> responses = new ArrayList<>(mails.size());
+        if (kafkaTemplate == null) {
+            for (MailRequest mail : mails) {
+                responses.add(send(mail));
+            }
+            return responses;
+        }
+        CallerRunsExecutor callerRuns = new CallerRunsExecutor();
+        List<CompletableFuture<MailResponse>> futures = new ArrayList<>(mails.size());
+        for (MailRequest mail : mails) {
+            futures.add(sendAsync(mail, callerRuns));
+        }
+        // Stage claim-check mails before flush, so their references are flushed too.
+        callerRuns.runPending();
+        try {
+            kafkaTemplate.flush();
+        } catch (Exception ex) {
+            log.warn("Failed to flush mail requests to kafka, waiting for delivery timeout", ex);
+        }
+        for (CompletableFuture<MailResponse> future : futures) {
+            responses.add(callerRuns.join(future));
+        }
+        return responses;
     }
 
     /**
@@ -94,14 +261,13 @@ public class MailSenderService {
      * @return result of sending mail.
      */
     public MailResponse send(final MailRequest mail, final List<MultipartFile> attachments) {
-        if (StringUtils.isEmpty(mail.getService())) {
-            mail.setService(serviceName);
-        }
-        return sendViaRest(mail, attachments, null);
+        return send(mail, attachments, null);
     }
 
     /**
      * Sends mail with inline and non-inline attachments.
+     * If Kafka and the blob store are configured, attachments are staged to the store and the mail is sent
+     * over Kafka with references to them; otherwise, or if claim-check sending fails, the mail is sent via REST.
      *
      * @param mail mail request parameters
      * @param attachments attached non-inlines files
@@ -111,9 +277,15 @@ public class MailSenderService {
     public MailResponse send(final MailRequest mail,
                              final List<MultipartFile> attachments,
                              final List<MultipartFile> inlines) {
-        if (StringUtils.isEmpty(mail.getService())) {
-            mail.setService(serviceName);
+        setDefaultService(mail);
+        if (isClaimCheckEnabled()) {
+            metrics.count(MailSenderMetrics.Route.KAFKA_CLAIM_CHECK);
+            CallerRunsExecutor callerRuns = new CallerRunsExecutor();
+            return callerRuns.join(sendViaClaimCheck(mail, isContentStaged(mail), toMailAttachments(attachments),
+                    toMailAttachments(inlines), MdcPropagation.supplier(() -> sendViaRest(mail, attachments, inlines)),
+                    callerRuns));
         }
+        metrics.count(MailSenderMetrics.Route.REST_ATTACHMENTS);
         return sendViaRest(mail, attachments, inlines);
     }
 
@@ -125,10 +297,94 @@ public class MailSenderService {
      * @return result of sending mail.
      */
     public MailResponse sendWithInline(final MailRequest mail, final List<MultipartFile> inlines) {
+        return send(mail, null, inlines);
+    }
+
+    /**
+     * Sends mail with attachments streamed from their sources, so attachments aren't loaded into memory
+     * whatever their size is.
+     * If Kafka and the blob store are configured, attachments are staged to the store and the mail is sent
+     * over Kafka with references to them. If claim-check sending fails, the mail is sent via REST,
+     * unless an attachment can be read only once, like an input stream.
+     *
+     * @param mail mail request parameters
+     * @param attachments non-inline attachments, or null
+     * @param inlines inline attachments, or null
+     * @return result of sending mail.
+     */
+    public MailResponse sendStreaming(final MailRequest mail,
+                                      final List<MailAttachment> attachments,
+                                      final List<MailAttachment> inlines) {
+        if (multipartClient == null && !isClaimCheckEnabled()) {
+            throw new IllegalStateException("Streaming of mail attachments isn't configured");
+        }
+        setDefaultService(mail);
+        if (isClaimCheckEnabled()) {
+            metrics.count(MailSenderMetrics.Route.KAFKA_CLAIM_CHECK);
+            Supplier<MailResponse> restSending = multipartClient != null
+                    && isRereadable(attachments) && isRereadable(inlines)
+                    ? MdcPropagation.supplier(() -> sendViaMultipartClient(mail, attachments, inlines))
+                    : null;
+            CallerRunsExecutor callerRuns = new CallerRunsExecutor();
+            return callerRuns.join(sendViaClaimCheck(mail, isContentStaged(mail), attachments, inlines, restSending,
+                    callerRuns));
+        }
+        metrics.count(MailSenderMetrics.Route.REST_ATTACHMENTS);
+        return sendViaMultipartClient(mail, attachments, inlines);
+    }
+
+    private boolean isContentStaged(final MailRequest mail) {
+        return mail.getContent() != null && !sizeEstimator.fits(mail, claimCheckThreshold);
+    }
+
+    private boolean isClaimCheckEnabled() {
+        return kafkaTemplate != null && blobStore != null;
+    }
+
+    private static boolean isRereadable(final List<MailAttachment> attachments) {
+        return attachments == null || attachments.stream().noneMatch(attachment -> attachment.getResource().isOpen());
+    }
+
+    private static List<MailAttachment> toMailAttachments(final List<MultipartFile> files) {
+        List<MailAttachment> attachments = new ArrayList<>();
+        if (files != null) {
+            for (MultipartFile file : files) {
+                String contentType = file.getContentType();
+                attachments.add(MailAttachment.of(file.getOriginalFilename(), file.getResource(),
+                        StringUtils.hasText(contentType) ? MediaType.parseMediaType(contentType) : null));
+            }
+        }
+        return attachments;
+    }
+
+    /**
+     * Sends mail with attachments streamed by multipart client.
+     *
+     * @param mail mail request parameters
+     * @param attachments non-inline attachments, or null
+     * @param inlines inline attachments, or null
+     * @return result of sending mail.
+     */
+    private MailResponse sendViaMultipartClient(final MailRequest mail,
+                                                final List<MailAttachment> attachments,
+                                                final List<MailAttachment> inlines) {
+        MailResponse mailResponse = new MailResponse();
+        try {
+            ResponseEntity<String> response = multipartClient.send(
+                    objectMapper.writeValueAsString(mail), attachments, inlines);
+            mailResponse.setStatus(response.getStatusCodeValue());
+            mailResponse.setMessage("Mail sent successfully");
+        } catch (Exception ex) {
+            log.error("Failed to send mail", ex);
+            mailResponse = getMailResponse(ex);
+        }
+        return mailResponse;
+    }
+
+    private void setDefaultService(final MailRequest mail) {
         if (StringUtils.isEmpty(mail.getService())) {
             mail.setService(serviceName);
         }
-        return sendViaRest(mail, null, inlines);
     }
 
     /**
@@ -175,20 +431,20 @@ public class MailSenderService {
     }
 
     private MailResponse getMailResponse(final Exception ex) {
-        MailResponse mailResponse = new MailResponse();
         String errorMessage = ex.toString();
-        String errorMessageBody = errorMessage.substring(errorMessage.indexOf("{"));
-        if (!StringUtils.isEmpty(errorMessageBody)) {
+        int bodyStart = errorMessage.indexOf("{");
+        if (bodyStart >= 0) {
             try {
-                mailResponse = objectMapper.readValue(errorMessageBody, MailResponse.class);
+                return objectMapper.readValue(errorMessage.substring(bodyStart), MailResponse.class);
             } catch (JsonProcessingException e) {
                 log.warn("Can't cast exception message to MailResponse type: " + e);
-                mailResponse.setStatus(500);
-                mailResponse.setMessage("Failed to send mail. Undefined error");
-                mailResponse.setTimestamp(new Date());
-                mailResponse.setTrace(Arrays.toString(ex.getStackTrace()));
             }
         }
+        MailResponse mailResponse = new MailResponse();
+        mailResponse.setStatus(500);
+        mailResponse.setMessage("Failed to send mail. Undefined error");
+        mailResponse.setTimestamp(new Date());
+        mailResponse.setTrace(Arrays.toString(ex.getStackTrace()));
         return mailResponse;
     }
 
@@ -196,24 +452,163 @@ public class MailSenderService {
      * Sends mail via kafka.
      *
      * @param mail mail request parameters
-     * @return result of sending request to kafka. If you want to get the result of an email, you need a KafkaListener.
+     * @return CompletableFuture of result of sending request to kafka, completed by the producer callback.
+     *     If you want to get the result of an email, you need a KafkaListener.
      */
-    private MailResponse sendViaKafka(final MailRequest mail) {
-        MailResponse response = new MailResponse();
-        response.setTimestamp(new Date());
+    private CompletableFuture<MailResponse> sendViaKafka(final MailRequest mail) {
+        CompletableFuture<MailResponse> sent = new CompletableFuture<>();
         try {
-            ListenableFuture<SendResult<UUID, MailRequest>> future = kafkaTemplate.send(mailRequestTopic, mail);
-            future.get();
-            response.setStatus(200);
-            response.setMessage("Mail request successfully sent to kafka");
-        } catch (RecordTooLargeException ex) {
-            log.warn("The mail is too big to send to kafka. Send it via REST");
-            return sendViaRest(mail);
+            kafkaTemplate.send(mailRequestTopic, mail).addCallback(
+                    result -> {
+                        MailResponse response = new MailResponse();
+                        response.setTimestamp(new Date());
+                        response.setStatus(200);
+                        response.setMessage("Mail request successfully sent to kafka");
+                        sent.complete(response);
+                    },
+                    sent::completeExceptionally);
         } catch (Exception ex) {
-            log.error("Failed to send mail to kafka topic", ex);
-            response.setStatus(500);
-            response.setMessage(ex.getMessage());
+            sent.completeExceptionally(ex);
         }
+        return sent;
+    }
+
+    /**
+     * Sends mail over Kafka by claim-check: the body of a large mail and attachments are staged to the blob store
+     * and the mail request sent refers to them. If staging or sending fails, staged blobs are deleted
+     * and the mail is sent via REST. Both staging and sending to Kafka run with MDC of the caller,
+     * so producer interceptors write its business IDs to the record.
+     *
+     * @param mail mail request parameters
+     * @param stageContent true to stage the email body, as the mail is bigger than the claim-check threshold
+     * @param attachments non-inline attachments, or null
+     * @param inlines inline attachments, or null
+     * @param restSending Supplier sending the mail via REST, or null if it can't be sent via REST
+     * @param executor Executor of blob staging and REST requests
+     * @return CompletableFuture of the result of sending mail.
+     */
+    private CompletableFuture<MailResponse> sendViaClaimCheck(final MailRequest mail,
+                                                              final boolean stageContent,
+                                                              final List<MailAttachment> attachments,
+                                                              final List<MailAttachment> inlines,
+                                                              final Supplier<MailResponse> restSending,
+                                                              final Executor executor) {
+        List<MailBlobReference> staged = new ArrayList<>();
+        MdcSnapshot mdc = MdcSnapshot.capture();
+        return CompletableFuture.supplyAsync(
+                        mdc.wrapSupplier(() -> stage(mail, stageContent, attachments, inlines, staged)), executor)
+                .thenCompose(mdc.wrapFunction(this::sendViaKafka))
+                .handle((response, ex) -> {
+                    if (ex == null) {
+                        return CompletableFuture.completedFuture(response);
+                    }
+                    deleteStaged(staged);
+                    return handleClaimCheckFailure(ex, restSending, executor);
+                })
+                .thenCompose(Function.identity())
+                .exceptionally(ex -> {
+                    log.error("Failed to send mail", ex);
+                    return getKafkaErrorResponse(ex);
+                });
+    }
+
+    private ClaimCheckMailRequest stage(final MailRequest mail,
+                                        final boolean stageContent,
+                                        final List<MailAttachment> attachments,
+                                        final List<MailAttachment> inlines,
+                                        final List<MailBlobReference> staged) {
+        ClaimCheckMailRequest reference = new ClaimCheckMailRequest();
+        reference.setService(mail.getService());
+        reference.setMetadata(mail.getMetadata());
+        reference.setFrom(mail.getFrom());
+        reference.setTo(mail.getTo());
+        reference.setCc(mail.getCc());
+        reference.setSubject(mail.getSubject());
+        try {
+            if (stageContent && mail.getContent() != null) {
+                Resource content = new ByteArrayResource(mail.getContent().getBytes(StandardCharsets.UTF_8));
+                reference.setContentReference(stage(MailAttachment.of("content", content,
+                        new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8)), staged));
+            } else {
+                reference.setContent(mail.getContent());
+            }
+            reference.setAttachments(stage(attachments, staged));
+            reference.setInlines(stage(inlines, staged));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to stage mail to blob store", e);
+        }
+        return reference;
+    }
+
+    private List<MailBlobReference> stage(final List<MailAttachment> attachments,
+                                          final List<MailBlobReference> staged) throws IOException {
+        List<MailBlobReference> references = new ArrayList<>();
+        if (attachments != null) {
+            for (MailAttachment attachment : attachments) {
+                references.add(stage(attachment, staged));
+            }
+        }
+        return references;
+    }
+
+    private MailBlobReference stage(final MailAttachment attachment,
+                                    final List<MailBlobReference> staged) throws IOException {
+        MailBlobReference reference = blobStore.store(attachment);
+        staged.add(reference);
+        return reference;
+    }
+
+    private void deleteStaged(final List<MailBlobReference> staged) {
+        for (MailBlobReference reference : staged) {
+            try {
+                blobStore.delete(reference);
+            } catch (Exception ex) {
+                log.warn("Failed to delete staged mail blob {}", reference.getKey(), ex);
+            }
+        }
+    }
+
+    private CompletableFuture<MailResponse> handleClaimCheckFailure(final Throwable ex,
+                                                                    final Supplier<MailResponse> restSending,
+                                                                    final Executor executor) {
+        if (restSending == null) {
+            log.error("Failed to send mail by claim-check", ex);
+            return CompletableFuture.completedFuture(getKafkaErrorResponse(ex));
+        }
+        log.warn("Failed to send mail by claim-check. Send it via REST", ex);
+        metrics.count(MailSenderMetrics.Route.REST_CLAIM_CHECK_FAILED);
+        return supplyRest(restSending, executor);
+    }
+
+    private CompletableFuture<MailResponse> handleKafkaFailure(final Throwable ex,
+                                                               final Supplier<MailResponse> restSending,
+                                                               final Executor executor) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RecordTooLargeException) {
+                log.warn("The mail is too big to send to kafka. Send it via REST");
+                metrics.count(MailSenderMetrics.Route.REST_RECORD_TOO_LARGE);
+                return supplyRest(restSending, executor);
+            }
+        }
+        log.error("Failed to send mail to kafka topic", ex);
+        return CompletableFuture.completedFuture(getKafkaErrorResponse(ex));
+    }
+
+    private CompletableFuture<MailResponse> supplyRest(final Supplier<MailResponse> restSending,
+                                                       final Executor executor) {
+        try {
+            return CompletableFuture.supplyAsync(restSending, executor);
+        } catch (RejectedExecutionException ex) {
+            log.error("Failed to send mail: too many REST requests are queued", ex);
+            return CompletableFuture.completedFuture(getKafkaErrorResponse(ex));
+        }
+    }
+
+    private MailResponse getKafkaErrorResponse(final Throwable ex) {
+        MailResponse response = new MailResponse();
+        response.setTimestamp(new Date());
+        response.setStatus(500);
+        response.setMessage(ex.getMessage());
         return response;
     }
 
@@ -0,0 +1,132 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package decorators;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+import org.qubership.atp.integration.configuration.decorators.MdcExecutorService;
+import org.qubership.atp.integration.configuration.decorators.MdcThreadFactory;
+import org.qubership.atp.integration.configuration.decorators.VirtualThreads;
+import org.slf4j.MDC;
+
+public class MdcExecutorServiceTest {
+
+    /**
+     * Executor under test.
+     */
+    private ExecutorService executor;
+
+    /**
+     * Shutdown executor and clear MDC after each test.
+     */
+    @After
+    public void tearDown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        MDC.clear();
+    }
+
+    /**
+     * Test that tasks submitted in all ways run with MDC of the submitting thread.
+     *
+     * @throws Exception in case tasks fail.
+     */
+    @Test
+    public void testExecutorServiceRunsTasksWithMdcOfSubmittingThread() throws Exception {
+        executor = new MdcExecutorService(Executors.newFixedThreadPool(2));
+        MDC.put("projectId", "project");
+        Callable<String> task = () -> MDC.get("projectId");
+
+        Assert.assertEquals("project", executor.submit(task).get(5, TimeUnit.SECONDS));
+        Assert.assertEquals("project", executor.invokeAny(Arrays.asList(task, task)));
+        List<Future<String>> futures = executor.invokeAll(Arrays.asList(task, task));
+        for (Future<String> future : futures) {
+            Assert.assertEquals("project", future.get());
+        }
+        MDC.put("projectId", "another");
+        Assert.assertEquals("another", executor.submit(task).get(5, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Test that MDC doesn't leak from one task to the next one run by the same thread.
+     *
+     * @throws Exception in case tasks fail.
+     */
+    @Test
+    public void testMdcIsClearedAfterTask() throws Exception {
+        executor = new MdcExecutorService(Executors.newSingleThreadExecutor());
+        MDC.put("projectId", "project");
+        executor.submit(() -> MDC.put("testRunId", "testRun")).get(5, TimeUnit.SECONDS);
+        MDC.clear();
+
+        Assert.assertNull(executor.submit(() -> MDC.get("projectId")).get(5, TimeUnit.SECONDS));
+        Assert.assertNull(executor.submit(() -> MDC.get("testRunId")).get(5, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Test that threads created by MdcThreadFactory run with MDC of the creating thread.
+     *
+     * @throws InterruptedException in case the current thread is interrupted.
+     */
+    @Test
+    public void testThreadFactoryPropagatesMdcOfCreatingThread() throws InterruptedException {
+        MDC.put("projectId", "project");
+        String[] projectId = new String[1];
+        Thread thread = new MdcThreadFactory(Executors.defaultThreadFactory())
+                .newThread(() -> projectId[0] = MDC.get("projectId"));
+        MDC.clear();
+        thread.start();
+        thread.join(TimeUnit.SECONDS.toMillis(5));
+
+        Assert.assertEquals("project", projectId[0]);
+    }
+
+    /**
+     * Test that virtual thread per task executor runs tasks with MDC of the submitting thread.
+     *
+     * @throws Exception in case tasks fail.
+     */
+    @Test
+    public void testVirtualThreadPerTaskExecutorPropagatesMdc() throws Exception {
+        Assume.assumeTrue(VirtualThreads.isSupported());
+        executor = VirtualThreads.newVirtualThreadPerTaskExecutor("test-virtual-");
+        MDC.put("projectId", "project");
+
+        Assert.assertEquals("project", executor.submit(() -> MDC.get("projectId")).get(5, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Test that unsupported virtual threads are reported by exception.
+     */
+    @Test
+    public void testVirtualThreadsUnsupportedThrowsException() {
+        Assume.assumeFalse(VirtualThreads.isSupported());
+        Assert.assertThrows(UnsupportedOperationException.class,
+                () -> VirtualThreads.newVirtualThreadPerTaskExecutor("test-virtual-"));
+    }
+}
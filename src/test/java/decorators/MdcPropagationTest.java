@@ -0,0 +1,107 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package decorators;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.qubership.atp.integration.configuration.decorators.MdcExecutor;
+import org.qubership.atp.integration.configuration.decorators.MdcPropagation;
+import org.slf4j.MDC;
+
+public class MdcPropagationTest {
+
+    /**
+     * Clear MDC after each test.
+     */
+    @After
+    public void clearMdc() {
+        MDC.clear();
+    }
+
+    /**
+     * Test that CompletableFuture helpers, wrapped functions and MdcExecutor run stages with MDC of the calling thread.
+     *
+     * @throws Exception in case the future fails.
+     */
+    @Test
+    public void testCompletableFutureStagesRunWithMdc() throws Exception {
+        MDC.put("projectId", "project");
+        MdcExecutor executor = new MdcExecutor(ForkJoinPool.commonPool());
+
+        String result = CompletableFuture.supplyAsync(() -> MDC.get("projectId"), executor)
+                .thenCombine(MdcPropagation.supplyAsync(() -> MDC.get("projectId")), (first, second) -> first + second)
+                .thenApplyAsync(MdcPropagation.function(value -> value + MDC.get("projectId")))
+                .thenCombineAsync(CompletableFuture.completedFuture("!"),
+                        MdcPropagation.biFunction((value, other) -> value + MDC.get("projectId") + other))
+                .get(5, TimeUnit.SECONDS);
+
+        Assert.assertEquals("projectprojectprojectproject!", result);
+    }
+
+    /**
+     * Test that parallel stream operations run with MDC of the calling thread on all threads,
+     * and MDC of the calling thread, which runs some of the operations, is kept.
+     */
+    @Test
+    public void testParallelStreamRunsWithMdcAndKeepsCallerMdc() {
+        MDC.put("projectId", "project");
+        MDC.put("testRunId", "testRun");
+
+        List<String> projectIds = IntStream.range(0, 1000).boxed().parallel()
+                .map(MdcPropagation.function(i -> {
+                    MDC.put("testRunId", "changed-" + i);
+                    return MDC.get("projectId");
+                }))
+                .distinct()
+                .collect(Collectors.toList());
+
+        Assert.assertEquals(1, projectIds.size());
+        Assert.assertEquals("project", projectIds.get(0));
+        Assert.assertEquals("testRun", MDC.get("testRunId"));
+    }
+
+    /**
+     * Test that tasks submitted to ForkJoinPool through MdcExecutor don't leave MDC on pool threads.
+     *
+     * @throws Exception in case tasks fail.
+     */
+    @Test
+    public void testForkJoinPoolThreadsDoNotKeepMdc() throws Exception {
+        ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            MDC.put("projectId", "project");
+            CompletableFuture.runAsync(() -> MDC.put("testRunId", "testRun"), new MdcExecutor(pool))
+                    .get(5, TimeUnit.SECONDS);
+            MDC.clear();
+
+            Assert.assertNull(CompletableFuture.supplyAsync(() -> MDC.get("projectId"), pool)
+                    .get(5, TimeUnit.SECONDS));
+            Assert.assertNull(CompletableFuture.supplyAsync(() -> MDC.get("testRunId"), pool)
+                    .get(5, TimeUnit.SECONDS));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
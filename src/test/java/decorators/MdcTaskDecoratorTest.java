@@ -16,15 +16,23 @@
 
 package decorators;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.junit.After;
 import org.junit.Assert;
-import org.junit.Before;
 import org.junit.Test;
 import org.qubership.atp.integration.configuration.decorators.MdcTaskDecorator;
+import org.qubership.atp.integration.configuration.mdc.MdcUtils;
 import org.slf4j.MDC;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -36,14 +44,14 @@ public class MdcTaskDecoratorTest {
     private ThreadPoolTaskExecutor executor;
 
     /**
-     * Initialize executor for tests.
+     * Shutdown executor and clear MDC after each test.
      */
-    @Before
-    public void init() {
-        executor = new ThreadPoolTaskExecutor();
-        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
-        executor.setWaitForTasksToCompleteOnShutdown(true);
-        executor.initialize();
+    @After
+    public void tearDown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+        MDC.clear();
     }
 
     /**
@@ -55,7 +63,8 @@ public class MdcTaskDecoratorTest {
     @Test
     public void testMdcTaskDecoratorThreadPoolWithoutMdcDecoratorTaskMdcContextWasNotCopiedForNewThread()
             throws ExecutionException, InterruptedException {
-        submitAndGetFuture(); // It implicitly relies on the sequence of tests execution.
+        executor = createExecutor(null, 1, Integer.MAX_VALUE);
+        Assert.assertNull(submitAndGetFuture());
     }
 
     /**
@@ -67,17 +76,137 @@ public class MdcTaskDecoratorTest {
     @Test
     public void testMdcTaskDecoratorThreadPoolWithMdcDecoratorTaskMdcContextWasCopiedForNewThread()
             throws ExecutionException, InterruptedException {
-        executor.setTaskDecorator(new MdcTaskDecorator());
-        submitAndGetFuture();
+        executor = createExecutor(new MdcTaskDecorator(), 1, Integer.MAX_VALUE);
+        Assert.assertEquals("123", submitAndGetFuture());
+        MDC.clear();
+        Assert.assertNull(executor.submit(() -> MDC.get("projectId")).get());
     }
 
-    private void submitAndGetFuture() throws ExecutionException, InterruptedException {
-        MDC.put("projectId", "123");
-        Future<?> future = executor.submit((Callable<Void>) () -> {
-            Assert.assertNull(MDC.get("projectId"));
+    /**
+     * Test that a task run by the submitting thread, since the pool is saturated and CallerRunsPolicy is used,
+     * runs with the captured MDC and keeps MDC of the submitting thread, including changes made after capture.
+     *
+     * @throws Exception in case tasks fail.
+     */
+    @Test
+    public void testCallerRunsTaskRestoresMdcOfSubmittingThread() throws Exception {
+        executor = createExecutor(new MdcTaskDecorator(), 1, 0);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        Future<?> blocking = executor.submit(() -> {
+            started.countDown();
+            release.await();
             return null;
         });
-        future.get();
+        started.await(5, TimeUnit.SECONDS);
+
+        MDC.put("projectId", "123");
+        Thread caller = Thread.currentThread();
+        Future<String> callerRun = executor.submit(() -> {
+            Assert.assertSame(caller, Thread.currentThread());
+            MDC.put("testRunId", "task");
+            return MDC.get("projectId");
+        });
+        release.countDown();
+        blocking.get(5, TimeUnit.SECONDS);
+
+        Assert.assertEquals("123", callerRun.get(5, TimeUnit.SECONDS));
+        Assert.assertEquals("123", MDC.get("projectId"));
+        Assert.assertNull(MDC.get("testRunId"));
+    }
+
+    /**
+     * Test that a task decorated and run on the same thread with unchanged MDC keeps the very same MDC map.
+     */
+    @Test
+    public void testSameThreadRunKeepsMdcMap() {
+        MDC.put("projectId", "123");
+        Runnable task = new MdcTaskDecorator().decorate(() -> Assert.assertEquals("123", MDC.get("projectId")));
+        Object contextMap = MdcUtils.getContextMapView();
+
+        task.run();
+
+        Assert.assertSame(contextMap, MdcUtils.getContextMapView());
+    }
+
+    /**
+     * Test that under saturation, with tasks run both by pool threads and by submitting threads,
+     * every task sees MDC of its submitter and every submitter keeps its own MDC.
+     *
+     * @throws Exception in case submitters fail.
+     */
+    @Test
+    public void testSaturatedExecutorKeepsMdcOfEachSubmitter() throws Exception {
+        executor = createExecutor(new MdcTaskDecorator(), 2, 2);
+        int submitters = 8;
+        int tasksPerSubmitter = 500;
+        AtomicInteger mismatches = new AtomicInteger();
+        AtomicInteger callerRuns = new AtomicInteger();
+        ExecutorService submitterPool = Executors.newFixedThreadPool(submitters);
+        try {
+            List<Future<?>> submitted = new ArrayList<>();
+            for (int s = 0; s < submitters; s++) {
+                String submitterId = "submitter-" + s;
+                submitted.add(submitterPool.submit(() -> {
+                    MDC.put("projectId", submitterId);
+                    Thread submitter = Thread.currentThread();
+                    List<Future<?>> tasks = new ArrayList<>();
+                    for (int t = 0; t < tasksPerSubmitter; t++) {
+                        MDC.put("testRunId", submitterId + "-" + t);
+                        String expectedTestRunId = MDC.get("testRunId");
+                        tasks.add(executor.submit(() -> {
+                            if (Thread.currentThread() == submitter) {
+                                callerRuns.incrementAndGet();
+                            }
+                            if (!submitterId.equals(MDC.get("projectId"))
+                                    || !expectedTestRunId.equals(MDC.get("testRunId"))) {
+                                mismatches.incrementAndGet();
+                            }
+                            MDC.put("projectId", "changed-by-task");
+                        }));
+                        if (!submitterId.equals(MDC.get("projectId"))) {
+                            mismatches.incrementAndGet();
+                        }
+                    }
+                    for (Future<?> task : tasks) {
+                        task.get(30, TimeUnit.SECONDS);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : submitted) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            submitterPool.shutdownNow();
+        }
+
+        Assert.assertEquals(0, mismatches.get());
+        Assert.assertTrue("Pool isn't saturated, no task run by submitting thread", callerRuns.get() > 0);
+        MDC.clear();
+        for (int i = 0; i < 2; i++) {
+            Assert.assertNull(executor.submit(() -> MDC.get("projectId")).get());
+        }
+    }
+
+    private ThreadPoolTaskExecutor createExecutor(final MdcTaskDecorator taskDecorator, final int poolSize,
+                                                  final int queueCapacity) {
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(poolSize);
+        taskExecutor.setMaxPoolSize(poolSize);
+        taskExecutor.setQueueCapacity(queueCapacity);
+        taskExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        taskExecutor.setWaitForTasksToCompleteOnShutdown(true);
+        // Task decorator is applied by initialize(), so it must be set before.
+        taskExecutor.setTaskDecorator(taskDecorator);
+        taskExecutor.initialize();
+        return taskExecutor;
+    }
+
+    private String submitAndGetFuture() throws ExecutionException, InterruptedException {
+        MDC.put("projectId", "123");
+        Future<String> future = executor.submit((Callable<String>) () -> MDC.get("projectId"));
+        return future.get();
     }
 
 }
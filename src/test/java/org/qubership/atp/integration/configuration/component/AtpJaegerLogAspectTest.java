@@ -0,0 +1,277 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.configuration.component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.qubership.atp.integration.configuration.annotation.AtpJaegerLog;
+import org.qubership.atp.integration.configuration.annotation.AtpSpanTag;
+import org.slf4j.MDC;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import brave.Tracing;
+import brave.handler.MutableSpan;
+import brave.handler.SpanHandler;
+import brave.propagation.TraceContext;
+import brave.sampler.Sampler;
+
+public class AtpJaegerLogAspectTest {
+
+    /**
+     * Finished spans.
+     */
+    private final List<MutableSpan> spans = new CopyOnWriteArrayList<>();
+
+    /**
+     * Tracing object.
+     */
+    private Tracing tracing;
+
+    /**
+     * Proxy of traced service.
+     */
+    private TracedService service;
+
+    /**
+     * Create tracing and traced service proxy before tests.
+     */
+    @Before
+    public void setUp() {
+        createService(Sampler.ALWAYS_SAMPLE, -1);
+    }
+
+    private void createService(final Sampler sampler, final int mdcTagBudget) {
+        if (tracing != null) {
+            tracing.close();
+        }
+        tracing = Tracing.newBuilder()
+                .sampler(sampler)
+                .addSpanHandler(new SpanHandler() {
+                    @Override
+                    public boolean end(final TraceContext context, final MutableSpan span, final Cause cause) {
+                        spans.add(span);
+                        return true;
+                    }
+                })
+                .build();
+        AspectJProxyFactory factory = new AspectJProxyFactory(new TracedService());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new AtpJaegerLogAspect(tracing.tracer(), mdcTagBudget));
+        service = factory.getProxy();
+    }
+
+    /**
+     * Close tracing and clear MDC after tests.
+     */
+    @After
+    public void cleanup() {
+        tracing.close();
+        MDC.clear();
+    }
+
+    /**
+     * Test that span name and tags are resolved the same way on repeated invocations.
+     */
+    @Test
+    public void testSpanTagsAreResolvedFromArguments() {
+        MDC.put("projectId", "project");
+        for (int i = 0; i < 3; i++) {
+            service.run("name" + i, new Item("item" + i), 5);
+        }
+
+        Assert.assertEquals(3, spans.size());
+        MutableSpan span = spans.get(2);
+        Assert.assertEquals("TracedService.run()", span.name());
+        Assert.assertEquals("name2", span.tag("name"));
+        Assert.assertEquals("item2", span.tag("item"));
+        Assert.assertEquals("constant", span.tag("literal"));
+        Assert.assertEquals("plain text", span.tag("text"));
+        Assert.assertEquals("value", span.tag("word"));
+        Assert.assertEquals("#count", span.tag("count"));
+        Assert.assertEquals("project", span.tag("projectId"));
+        Assert.assertNull(span.tag("testRunId"));
+    }
+
+    /**
+     * Test that plain text parsed as an expression is kept as a constant after its first evaluation fails,
+     * while a failed reference to an argument is still evaluated on next invocations.
+     */
+    @Test
+    public void testFailedLiteralExpressionIsKeptAsConstant() {
+        AtpJaegerLogAspect aspect = new AtpJaegerLogAspect(tracing.tracer(), -1);
+        AspectJProxyFactory factory = new AspectJProxyFactory(new TracedService());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        TracedService tracedService = factory.getProxy();
+
+        tracedService.run("name", null, 5);
+        tracedService.run("name", new Item("item"), 5);
+
+        Assert.assertEquals("value", spans.get(0).tag("word"));
+        Assert.assertEquals("#item.title", spans.get(0).tag("item"));
+        Assert.assertEquals("value", spans.get(1).tag("word"));
+        Assert.assertEquals("item", spans.get(1).tag("item"));
+        Map<?, ?> descriptors = (Map<?, ?>) ReflectionTestUtils.getField(aspect, "descriptors");
+        Object[] spanTags = (Object[]) ReflectionTestUtils.getField(descriptors.values().iterator().next(),
+                "spanTags");
+        for (Object spanTag : spanTags) {
+            String key = (String) ReflectionTestUtils.getField(spanTag, "key");
+            Object expression = ReflectionTestUtils.getField(spanTag, "expression");
+            if ("word".equals(key)) {
+                Assert.assertNull(expression);
+            } else if ("item".equals(key)) {
+                Assert.assertNotNull(expression);
+            }
+        }
+    }
+
+    /**
+     * Test that tags aren't evaluated if span isn't sampled.
+     */
+    @Test
+    public void testTagsAreNotEvaluatedForUnsampledSpan() {
+        createService(Sampler.NEVER_SAMPLE, -1);
+        Item item = new Item("item");
+        service.run("name", item, 5);
+
+        Assert.assertTrue(spans.isEmpty());
+        Assert.assertEquals(0, item.getTitleCalls());
+    }
+
+    /**
+     * Test that number of MDC tags is limited by the global budget and by the annotation budget.
+     */
+    @Test
+    public void testMdcTagBudget() {
+        MDC.put("projectId", "project");
+        MDC.put("testRunId", "testRun");
+        MDC.put("userId", "user");
+        createService(Sampler.ALWAYS_SAMPLE, 2);
+        service.run("name", new Item("item"), 5);
+        service.limited();
+
+        Assert.assertEquals("project", spans.get(0).tag("projectId"));
+        Assert.assertEquals("testRun", spans.get(0).tag("testRunId"));
+        Assert.assertNull(spans.get(0).tag("userId"));
+        Assert.assertEquals("project", spans.get(1).tag("projectId"));
+        Assert.assertNull(spans.get(1).tag("testRunId"));
+    }
+
+    /**
+     * Test that error is recorded in span if method fails.
+     */
+    @Test
+    public void testErrorIsRecorded() {
+        try {
+            service.fail();
+            Assert.fail("Exception is expected");
+        } catch (IllegalStateException e) {
+            Assert.assertEquals(1, spans.size());
+            Assert.assertSame(e, spans.get(0).error());
+        }
+    }
+
+    /**
+     * Item passed to traced method.
+     */
+    public static class Item {
+
+        /**
+         * Name of item.
+         */
+        private final String title;
+
+        /**
+         * Number of title reads.
+         */
+        private int titleCalls;
+
+        /**
+         * Constructor.
+         *
+         * @param title String title.
+         */
+        public Item(final String title) {
+            this.title = title;
+        }
+
+        /**
+         * Get title.
+         *
+         * @return String title.
+         */
+        public String getTitle() {
+            titleCalls++;
+            return title;
+        }
+
+        /**
+         * Get number of title reads.
+         *
+         * @return int number of title reads.
+         */
+        public int getTitleCalls() {
+            return titleCalls;
+        }
+    }
+
+    /**
+     * Service with traced methods.
+     */
+    public static class TracedService {
+
+        /**
+         * Traced method with tags evaluated from arguments.
+         *
+         * @param name String name
+         * @param item Item object
+         * @param count int count.
+         */
+        @AtpJaegerLog(spanTags = {
+                @AtpSpanTag(key = "name", value = "#name"),
+                @AtpSpanTag(key = "item", value = "#item.title"),
+                @AtpSpanTag(key = "literal", value = "'constant'"),
+                @AtpSpanTag(key = "text", value = "plain text"),
+                @AtpSpanTag(key = "word", value = "value"),
+                @AtpSpanTag(key = "count", value = "#count")
+        })
+        public void run(final String name, final Item item, final int count) {
+        }
+
+        /**
+         * Traced method with limited number of MDC tags.
+         */
+        @AtpJaegerLog(mdcTagBudget = 1)
+        public void limited() {
+        }
+
+        /**
+         * Traced method which fails.
+         */
+        @AtpJaegerLog
+        public void fail() {
+            throw new IllegalStateException("Failure");
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.configuration.configuration;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.qubership.atp.integration.configuration.mdc.MdcField;
+import org.slf4j.MDC;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+public class AuditAspectTest {
+
+    /**
+     * Proxy of audited controller.
+     */
+    private AuditedController controller;
+
+    /**
+     * Create audited controller proxy before tests.
+     */
+    @Before
+    public void setUp() {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new AuditedController());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new AuditAspect());
+        controller = factory.getProxy();
+        MDC.clear();
+    }
+
+    /**
+     * Clear MDC after tests.
+     */
+    @After
+    public void cleanup() {
+        MDC.clear();
+    }
+
+    /**
+     * Test that template is evaluated with actual arguments on each invocation.
+     */
+    @Test
+    public void testTemplateIsEvaluatedForEachInvocation() {
+        for (int i = 0; i < 300; i++) {
+            controller.delete("plan" + i, i);
+            Assert.assertEquals("Delete plan" + i + " of " + i, MDC.get(MdcField.USER_ACTION.toString()));
+        }
+    }
+
+    /**
+     * Test that template without expressions is put into MDC as is.
+     */
+    @Test
+    public void testLiteralTemplate() {
+        controller.create();
+        Assert.assertEquals("Create test plan", MDC.get(MdcField.USER_ACTION.toString()));
+    }
+
+    /**
+     * Controller with audited methods.
+     */
+    public static class AuditedController {
+
+        /**
+         * Audited method with parameters used in the template.
+         *
+         * @param name String name
+         * @param number int number.
+         */
+        @AuditAction(auditAction = "Delete {{#name}} of {{#number}}")
+        public void delete(final String name, final int number) {
+        }
+
+        /**
+         * Audited method with literal template.
+         */
+        @AuditAction(auditAction = "Create test plan")
+        public void create() {
+        }
+    }
+}
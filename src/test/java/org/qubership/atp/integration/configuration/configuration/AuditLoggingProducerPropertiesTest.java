@@ -0,0 +1,64 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.configuration.configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+public class AuditLoggingProducerPropertiesTest {
+
+    /**
+     * Test of default high-throughput producer settings.
+     */
+    @Test
+    public void testDefaultProducerProperties() {
+        Map<String, Object> config = new AuditLoggingProducerProperties().buildProducerProperties();
+
+        Assert.assertEquals("lz4", config.get(ProducerConfig.COMPRESSION_TYPE_CONFIG));
+        Assert.assertEquals("all", config.get(ProducerConfig.ACKS_CONFIG));
+        Assert.assertEquals(20, config.get(ProducerConfig.LINGER_MS_CONFIG));
+        Assert.assertEquals(65536, config.get(ProducerConfig.BATCH_SIZE_CONFIG));
+        Assert.assertEquals(true, config.get(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG));
+    }
+
+    /**
+     * Test of binding producer settings from 'atp.audit.logging.producer' namespace.
+     */
+    @Test
+    public void testProducerPropertiesAreBound() {
+        Map<String, String> source = new HashMap<>();
+        source.put("atp.audit.logging.producer.linger-ms", "5");
+        source.put("atp.audit.logging.producer.compression-type", "zstd");
+        source.put("atp.audit.logging.producer.properties.retries", "10");
+        source.put("atp.audit.logging.producer.properties.linger.ms", "7");
+
+        AuditLoggingProducerProperties properties = new Binder(new MapConfigurationPropertySource(source))
+                .bind("atp.audit.logging.producer", AuditLoggingProducerProperties.class).get();
+        Map<String, Object> config = properties.buildProducerProperties();
+
+        Assert.assertEquals(5, properties.getLingerMs());
+        Assert.assertEquals("zstd", config.get(ProducerConfig.COMPRESSION_TYPE_CONFIG));
+        Assert.assertEquals("10", config.get(ProducerConfig.RETRIES_CONFIG));
+        Assert.assertEquals("7", config.get(ProducerConfig.LINGER_MS_CONFIG));
+    }
+}
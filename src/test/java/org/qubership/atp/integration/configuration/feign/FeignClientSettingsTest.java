@@ -0,0 +1,81 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+
+package org.qubership.atp.integration.configuration.feign;
+
+import java.util.UUID;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.qubership.atp.integration.configuration.model.MailRequest;
+import org.qubership.atp.integration.configuration.service.MailSenderMultipartClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cloud.openfeign.FeignContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import feign.RequestTemplate;
+import feign.Retryer;
+
+@SpringBootTest(properties = {
+        "feign.atp.mailsender.streaming.enabled=true",
+        "feign.client.config.default.connectTimeout=2000",
+        "feign.client.config.ATP-MAIL-SENDER.readTimeout=3000",
+        "feign.client.config.ATP-MAIL-SENDER.defaultRequestHeaders.X-Client=atp"})
+@RunWith(SpringRunner.class)
+public class FeignClientSettingsTest {
+
+    /**
+     * KafkaTemplate bean.
+     */
+    @MockBean
+    private KafkaTemplate<UUID, MailRequest> kafkaTemplate;
+
+    /**
+     * Application context.
+     */
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    /**
+     * FeignContext bean.
+     */
+    @Autowired
+    private FeignContext feignContext;
+
+    /**
+     * Test that settings of mail-sender Feign client are resolved from its Feign context and properties,
+     * and the streaming client is created as it's enabled.
+     */
+    @Test
+    public void resolveTakesSettingsOfFeignClient() {
+        FeignClientSettings settings = FeignClientSettings.resolve(applicationContext, feignContext,
+                MailSenderFeignClient.class, "ATP-MAIL-SENDER");
+
+        Assert.assertEquals(2000, settings.getOptions().connectTimeoutMillis());
+        Assert.assertEquals(3000, settings.getOptions().readTimeoutMillis());
+        Assert.assertSame(Retryer.NEVER_RETRY, settings.getRetryer());
+        RequestTemplate template = new RequestTemplate();
+        settings.getRequestInterceptors().forEach(interceptor -> interceptor.apply(template));
+        Assert.assertTrue(template.headers().get("X-Client").contains("atp"));
+        Assert.assertNotNull(applicationContext.getBean(MailSenderMultipartClient.class));
+    }
+}
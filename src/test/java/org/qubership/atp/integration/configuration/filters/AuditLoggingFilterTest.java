@@ -17,6 +17,8 @@
 package org.qubership.atp.integration.configuration.filters;
 
 import static org.qubership.atp.integration.configuration.service.AuditLoggingService.PROJECT_ID_HEADER_NAME;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -30,19 +32,26 @@ import javax.servlet.http.HttpServletResponse;
 
 import org.apache.commons.lang.StringUtils;
 import org.apache.http.HttpHeaders;
+import org.junit.After;
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.qubership.atp.integration.configuration.configuration.AuditLoggingConfiguration;
 import org.qubership.atp.integration.configuration.configuration.LoggingHelpersConfiguration;
 import org.qubership.atp.integration.configuration.helpers.KafkaAdminHelper;
+import org.qubership.atp.integration.configuration.mdc.MdcField;
 import org.qubership.atp.integration.configuration.service.AuditLoggingService;
+import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit4.SpringRunner;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @SpringBootTest(classes = {AuditLoggingConfiguration.class, LoggingHelpersConfiguration.class})
 @RunWith(SpringRunner.class)
 @TestPropertySource(properties = {
@@ -164,11 +173,26 @@ public class AuditLoggingFilterTest {
 
     /**
      * Before test handler.
+     * Filter chain captures user action like a method annotated with AuditAction does.
+     *
+     * @throws Exception pass ServletException or IOException from filter chain stubbing.
      */
     @Before
-    public void setUp() {
+    public void setUp() throws Exception {
         when(httpServletRequest.getHeader(PROJECT_ID_HEADER_NAME)).thenReturn(TEST_PROJECT_ID);
         when(httpServletRequest.getRequestURI()).thenReturn(TEST_URL);
+        doAnswer(invocation -> {
+            MDC.put(MdcField.USER_ACTION.toString(), "Test action");
+            return null;
+        }).when(filterChain).doFilter(httpServletRequest, httpServletResponse);
+    }
+
+    /**
+     * Clear MDC after tests.
+     */
+    @After
+    public void cleanup() {
+        MDC.clear();
     }
 
     /**
@@ -181,6 +205,24 @@ public class AuditLoggingFilterTest {
         whenThenVerifyParametrizedInternal(TEST_AUTH_HEADER, 1, 1);
     }
 
+    /**
+     * Test audit logging skipping in case Bearer Token is set, but no user action is captured during request.
+     *
+     * @throws Exception pass ServletException or IOException from inner function.
+     */
+    @Test
+    public void userActionNotCapturedExpectAuditLoggingSkip() throws Exception {
+        doNothing().when(filterChain).doFilter(httpServletRequest, httpServletResponse);
+        MDC.put(MdcField.USER_ACTION.toString(), "Action of previous request");
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        auditLoggingFilter.bindTo(registry);
+        FunctionCounter skipped = registry.get("atp.audit.logging.events").tag("reason", "no_action")
+                .functionCounter();
+        double skippedBefore = skipped.count();
+        whenThenVerifyParametrizedInternal(TEST_AUTH_HEADER, 1, 0);
+        Assert.assertEquals(skippedBefore + 1, skipped.count(), 0);
+    }
+
     /**
      * Test audit logging skipping in case M2M Authorisation Header is set.
      *
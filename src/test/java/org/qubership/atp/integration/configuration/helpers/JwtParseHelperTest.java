@@ -3,6 +3,7 @@ package org.qubership.atp.integration.configuration.helpers;
 import static org.qubership.atp.integration.configuration.helpers.JwtParseHelper.BLANK_TOKEN_ERROR;
 import static org.qubership.atp.integration.configuration.helpers.JwtParseHelper.PARSE_TOKEN_ERROR;
 
+import java.util.Map;
 import java.util.UUID;
 
 import org.apache.commons.lang3.StringUtils;
@@ -11,6 +12,7 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.qubership.atp.integration.configuration.filters.AuditLoggingFilterTest;
+import org.springframework.mock.web.MockHttpServletRequest;
 
 public class JwtParseHelperTest {
 
@@ -155,4 +157,58 @@ public class JwtParseHelperTest {
                 () -> uuids[0] = jwtParseHelper.getUserIdFromNonM2MToken(AuditLoggingFilterTest.TEST_BASIC_HEADER));
         Assert.assertEquals(PARSE_TOKEN_ERROR, thrown.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void getTokenClaimsFromRequestTest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        TokenClaims tokenClaims = jwtParseHelper.getTokenClaimsFromRequest(request,
+                AuditLoggingFilterTest.TEST_AUTH_HEADER);
+        Assert.assertNotNull("User token: token claims should be parsed", tokenClaims);
+        Assert.assertSame("User token: token claims should be reused within the request",
+                tokenClaims,
+                jwtParseHelper.getTokenClaimsFromRequest(request, AuditLoggingFilterTest.TEST_AUTH_HEADER));
+        Assert.assertFalse("User token: the token should be not a M2M token",
+                jwtParseHelper.isM2Mtoken(request, AuditLoggingFilterTest.TEST_AUTH_HEADER));
+        Assert.assertEquals("User token: 'sub' property of 'payload' object should be user UUID",
+                UUID.fromString("c2344d70-3707-4418-a9c9-dbdb8beca796"),
+                jwtParseHelper.getUserIdFromNonM2MToken(request, AuditLoggingFilterTest.TEST_AUTH_HEADER));
+
+        TokenClaims m2mTokenClaims = jwtParseHelper.getTokenClaimsFromRequest(request,
+                AuditLoggingFilterTest.TEST_M2M_HEADER);
+        Assert.assertNotSame("M2M token: token claims should be parsed again for another token",
+                tokenClaims, m2mTokenClaims);
+        Assert.assertTrue("M2M token: the token should be a M2M token",
+                jwtParseHelper.isM2Mtoken(request, AuditLoggingFilterTest.TEST_M2M_HEADER));
+        Assert.assertNull("M2M token: userId should be null even if 'sub' property of 'payload' is present",
+                jwtParseHelper.getUserIdFromNonM2MToken(request, AuditLoggingFilterTest.TEST_M2M_HEADER));
+
+        IllegalStateException thrown = Assert.assertThrows(ERROR_MESSAGE,
+                IllegalStateException.class,
+                () -> jwtParseHelper.getTokenClaimsFromRequest(request, AuditLoggingFilterTest.BROKEN_BEARER_HEADER));
+        Assert.assertEquals(PARSE_TOKEN_ERROR, thrown.getMessage());
+    }
+
+    @Test
+    public void getTokenClaimsFromTokenTest() {
+        TokenClaims tokenClaims = jwtParseHelper.getTokenClaimsFromToken(AuditLoggingFilterTest.TEST_AUTH_HEADER);
+        Assert.assertEquals("c2344d70-3707-4418-a9c9-dbdb8beca796", tokenClaims.getUserId());
+        Assert.assertEquals("8085b7d3-9472-470a-b914-d70071d2b072", tokenClaims.getSessionId());
+        Assert.assertEquals("Example User", tokenClaims.getUsername());
+        Assert.assertNull(tokenClaims.getClientId());
+        Assert.assertEquals(Long.valueOf(1662379772L), tokenClaims.getExpiration());
+
+        Map<String, ?> tokenDataMap = jwtParseHelper.getTokenDataMapFromToken(AuditLoggingFilterTest.TEST_M2M_HEADER);
+        TokenClaims m2mTokenClaims = jwtParseHelper.getTokenClaimsFromToken(AuditLoggingFilterTest.TEST_M2M_HEADER);
+        Assert.assertEquals(tokenDataMap.get("sub"), m2mTokenClaims.getUserId());
+        Assert.assertEquals(tokenDataMap.get("session_state"), m2mTokenClaims.getSessionId());
+        Assert.assertEquals(tokenDataMap.get("clientId"), m2mTokenClaims.getClientId());
+        Assert.assertNull(m2mTokenClaims.getUsername());
+
+        Assert.assertNull("Token without credentials part should not be parsed",
+                jwtParseHelper.getTokenClaimsFromToken("Bearer"));
+        IllegalStateException thrown = Assert.assertThrows(ERROR_MESSAGE,
+                IllegalStateException.class,
+                () -> jwtParseHelper.getTokenClaimsFromToken("Bearer a.b.c.d"));
+        Assert.assertEquals(PARSE_TOKEN_ERROR, thrown.getMessage());
+    }
+}
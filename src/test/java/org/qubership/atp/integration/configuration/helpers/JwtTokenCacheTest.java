@@ -0,0 +1,115 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.configuration.helpers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qubership.atp.integration.configuration.filters.AuditLoggingFilterTest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class JwtTokenCacheTest {
+
+    /**
+     * Build unsigned Bearer token with claims given.
+     *
+     * @param claims String JSON claims
+     * @return String Authorization header value.
+     */
+    public static String bearerToken(final String claims) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return "Bearer " + encoder.encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8))
+                + "." + encoder.encodeToString(claims.getBytes(StandardCharsets.UTF_8))
+                + "." + encoder.encodeToString("signature".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String notExpiredToken(final String userId) {
+        long exp = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + 3600;
+        return bearerToken("{\"sub\":\"" + userId + "\",\"session_state\":\"8085b7d3-9472-470a-b914-d70071d2b072\","
+                + "\"exp\":" + exp + "}");
+    }
+
+    @Test
+    public void getTokenClaimsFromTokenWithCacheTest() {
+        JwtTokenCache cache = new JwtTokenCache(10, 60);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+        JwtParseHelper jwtParseHelper = new JwtParseHelper(cache);
+        String token = notExpiredToken("c2344d70-3707-4418-a9c9-dbdb8beca796");
+
+        TokenClaims tokenClaims = jwtParseHelper.getTokenClaimsFromToken(token);
+        Assert.assertSame("Token claims should be taken from the cache",
+                tokenClaims, jwtParseHelper.getTokenClaimsFromToken(token));
+        Assert.assertEquals("c2344d70-3707-4418-a9c9-dbdb8beca796", tokenClaims.getUserId());
+        Assert.assertEquals(1, cache.size());
+        Assert.assertEquals(1.0,
+                registry.get("atp.logging.jwt.cache.requests").tag("result", "hit").functionCounter().count(), 0);
+        Assert.assertEquals(1.0,
+                registry.get("atp.logging.jwt.cache.requests").tag("result", "miss").functionCounter().count(), 0);
+    }
+
+    @Test
+    public void getTokenDataMapFromTokenWithCacheTest() {
+        JwtTokenCache cache = new JwtTokenCache(10, 60);
+        JwtParseHelper jwtParseHelper = new JwtParseHelper(cache);
+        String token = notExpiredToken("c2344d70-3707-4418-a9c9-dbdb8beca796");
+
+        Map<String, ?> tokenDataMap = jwtParseHelper.getTokenDataMapFromToken(token);
+        Assert.assertSame("Token data map should be taken from the cache",
+                tokenDataMap, jwtParseHelper.getTokenDataMapFromToken(token));
+        Assert.assertEquals("c2344d70-3707-4418-a9c9-dbdb8beca796", tokenDataMap.get("sub"));
+        TokenClaims tokenClaims = jwtParseHelper.getTokenClaimsFromToken(token);
+        Assert.assertSame(tokenClaims, jwtParseHelper.getTokenClaimsFromToken(token));
+        Assert.assertSame(tokenDataMap, jwtParseHelper.getTokenDataMapFromToken(token));
+        Assert.assertEquals("Token claims and data map should share the entry", 1, cache.size());
+    }
+
+    @Test
+    public void expiredTokenIsNotCachedTest() {
+        JwtTokenCache cache = new JwtTokenCache(10, 60);
+        JwtParseHelper jwtParseHelper = new JwtParseHelper(cache);
+
+        TokenClaims tokenClaims = jwtParseHelper.getTokenClaimsFromToken(AuditLoggingFilterTest.TEST_AUTH_HEADER);
+        Assert.assertNotNull(tokenClaims);
+        Assert.assertEquals("Expired token shouldn't be cached", 0, cache.size());
+        Assert.assertNull(cache.get(AuditLoggingFilterTest.TEST_AUTH_HEADER));
+    }
+
+    @Test
+    public void leastRecentlyUsedTokenIsEvictedTest() {
+        JwtTokenCache cache = new JwtTokenCache(2, 60);
+        JwtParseHelper jwtParseHelper = new JwtParseHelper(cache);
+        String first = notExpiredToken("00000000-0000-0000-0000-000000000001");
+        String second = notExpiredToken("00000000-0000-0000-0000-000000000002");
+        String third = notExpiredToken("00000000-0000-0000-0000-000000000003");
+
+        jwtParseHelper.getTokenClaimsFromToken(first);
+        jwtParseHelper.getTokenClaimsFromToken(second);
+        jwtParseHelper.getTokenClaimsFromToken(first);
+        jwtParseHelper.getTokenClaimsFromToken(third);
+
+        Assert.assertEquals(2, cache.size());
+        Assert.assertNotNull("Recently used token should be kept", cache.get(first));
+        Assert.assertNull("Least recently used token should be evicted", cache.get(second));
+        Assert.assertNotNull(cache.get(third));
+    }
+}
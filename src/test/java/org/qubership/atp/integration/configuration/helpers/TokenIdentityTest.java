@@ -0,0 +1,79 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.configuration.helpers;
+
+import java.util.UUID;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TokenIdentityTest {
+
+    private static TokenIdentity.Id parse(final String value) {
+        char[] buffer = ("{\"sub\":\"" + value + "\"}").toCharArray();
+        return TokenIdentity.Id.parse(buffer, 8, value.length());
+    }
+
+    @Test
+    public void canonicalUuidIsParsedFromCharactersTest() {
+        UUID userId = UUID.randomUUID();
+        UUID sessionId = UUID.fromString("8085B7D3-9472-470A-B914-D70071D2B072");
+        TokenIdentity identity = new TokenIdentity(parse(userId.toString()), parse(sessionId.toString().toUpperCase()));
+
+        Assert.assertTrue(identity.hasUserId());
+        Assert.assertEquals(userId, identity.getUserId());
+        Assert.assertEquals(userId.toString(), identity.getUserIdString());
+        Assert.assertSame("String form should be rendered once", identity.getUserIdString(),
+                identity.getUserIdString());
+        Assert.assertTrue(identity.hasSessionId());
+        Assert.assertEquals(sessionId, identity.getSessionId());
+        Assert.assertEquals("8085b7d3-9472-470a-b914-d70071d2b072", identity.getSessionIdString());
+    }
+
+    @Test
+    public void nonCanonicalAndInvalidIdsTest() {
+        TokenIdentity identity = new TokenIdentity(parse("1-2-3-4-5"), parse("service-account"));
+
+        Assert.assertTrue("Non-canonical UUID should be accepted as UUID.fromString does", identity.hasUserId());
+        Assert.assertEquals(UUID.fromString("1-2-3-4-5"), identity.getUserId());
+        Assert.assertEquals(UUID.fromString("1-2-3-4-5").toString(), identity.getUserIdString());
+
+        Assert.assertFalse(identity.hasSessionId());
+        Assert.assertEquals("service-account", identity.getSessionIdString());
+        Assert.assertThrows(IllegalArgumentException.class, identity::getSessionId);
+    }
+
+    @Test
+    public void validUserIdStringFailsOnMalformedClaimTest() {
+        UUID userId = UUID.randomUUID();
+        Assert.assertEquals(userId.toString(),
+                new TokenIdentity(parse(userId.toString()), TokenIdentity.Id.ABSENT).getValidUserIdString());
+        Assert.assertNull(TokenIdentity.EMPTY.getValidUserIdString());
+        TokenIdentity malformed = new TokenIdentity(parse("service-account"), TokenIdentity.Id.ABSENT);
+        Assert.assertThrows(IllegalArgumentException.class, malformed::getValidUserIdString);
+    }
+
+    @Test
+    public void absentIdsTest() {
+        Assert.assertFalse(TokenIdentity.EMPTY.hasUserId());
+        Assert.assertNull(TokenIdentity.EMPTY.getUserId());
+        Assert.assertNull(TokenIdentity.EMPTY.getUserIdString());
+        Assert.assertFalse(TokenIdentity.EMPTY.hasSessionId());
+        Assert.assertNull(TokenIdentity.EMPTY.getSessionId());
+        Assert.assertNull(TokenIdentity.EMPTY.getSessionIdString());
+    }
+}
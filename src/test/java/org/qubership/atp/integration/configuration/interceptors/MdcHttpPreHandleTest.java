@@ -19,6 +19,7 @@ package org.qubership.atp.integration.configuration.interceptors;
 import static org.qubership.atp.integration.configuration.service.AuditLoggingService.PROJECT_ID_HEADER_NAME;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.UUID;
 
@@ -149,4 +150,25 @@ public class MdcHttpPreHandleTest {
         Assert.assertNull(MDC.get(MdcField.USER_ID.toString()));
     }
 
+    /**
+     * Test that filter puts all business IDs into MDC matching header names ignoring case.
+     *
+     * @throws ServletException in case some servlet processing exceptions
+     * @throws IOException in case IO exceptions.
+     */
+    @Test
+    public void mdcHttpFilterExtractsAllBusinessIdsIgnoringCase() throws ServletException, IOException {
+        MdcHttpFilter businessIdsFilter = new MdcHttpFilter(new JwtParseHelper(),
+                Arrays.asList("projectId", "executionRequestId", "testRunId"));
+        for (int i = 0; i < 40; i++) {
+            request.addHeader("X-Forwarded-Header-" + i, "value" + i);
+        }
+        request.addHeader("x-project-id", "project");
+        request.addHeader("X-EXECUTION-REQUEST-ID", "executionRequest");
+        businessIdsFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Assert.assertEquals("project", MDC.get("projectId"));
+        Assert.assertEquals("executionRequest", MDC.get("executionRequestId"));
+        Assert.assertNull(MDC.get("testRunId"));
+    }
+
 }
@@ -0,0 +1,226 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.configuration.interceptors;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.qubership.atp.integration.configuration.mdc.BusinessIdRegistry;
+import org.qubership.atp.integration.configuration.mdc.KafkaBusinessIdHeaders;
+import org.slf4j.MDC;
+
+public class MdcKafkaInterceptorsTest {
+
+    /**
+     * Topic name for tests.
+     */
+    private static final String TOPIC = "topic";
+
+    /**
+     * Producer interceptor configured by Kafka config.
+     */
+    private MdcKafkaProducerInterceptor<String, String> producerInterceptor;
+
+    /**
+     * Registry of business IDs.
+     */
+    private BusinessIdRegistry registry;
+
+    /**
+     * Setup registry and producer interceptor created by Kafka before tests.
+     */
+    @Before
+    public void setUp() {
+        registry = BusinessIdRegistry.of("projectId,executionRequestId,testRunId");
+        KafkaBusinessIdHeaders.setDefaults(registry, false);
+        producerInterceptor = new MdcKafkaProducerInterceptor<>();
+        producerInterceptor.configure(Collections.emptyMap());
+    }
+
+    /**
+     * Clear MDC and interceptor defaults after each test.
+     */
+    @After
+    public void tearDown() {
+        MDC.clear();
+        KafkaBusinessIdHeaders.setDefaults(BusinessIdRegistry.of((String) null), false);
+    }
+
+    /**
+     * Test that binary UUIDs are written as 17 bytes, other values as UTF-8, and both are decoded back.
+     */
+    @Test
+    public void testValuesAreEncodedCompactlyAndDecodedBack() {
+        String uuid = UUID.randomUUID().toString();
+        byte[] encoded = KafkaBusinessIdHeaders.encode(uuid, true);
+        Assert.assertEquals(17, encoded.length);
+        Assert.assertEquals(KafkaBusinessIdHeaders.UUID_MARKER, encoded[0]);
+        Assert.assertEquals(uuid, KafkaBusinessIdHeaders.decode(encoded));
+
+        for (String value : Arrays.asList(uuid.toUpperCase(), "report-type", "\u043f\u0440\u043e\u0435\u043a\u0442", "0")) {
+            byte[] bytes = KafkaBusinessIdHeaders.encode(value, true);
+            Assert.assertEquals(value, KafkaBusinessIdHeaders.decode(bytes));
+        }
+        Assert.assertEquals(36, KafkaBusinessIdHeaders.encode(uuid.toUpperCase(), true).length);
+    }
+
+    /**
+     * Test that UUIDs are written as UTF-8 strings unless binary UUIDs are enabled.
+     */
+    @Test
+    public void testProducerInterceptorWritesUtf8UnlessBinaryUuidsEnabled() {
+        String projectId = UUID.randomUUID().toString();
+        MDC.put("projectId", projectId);
+        ProducerRecord<String, String> record = new ProducerRecord<>(TOPIC, "value");
+
+        producerInterceptor.onSend(record);
+
+        Assert.assertArrayEquals(projectId.getBytes(StandardCharsets.UTF_8),
+                record.headers().lastHeader("X-Project-Id").value());
+
+        KafkaBusinessIdHeaders.setDefaults(registry, true);
+        MdcKafkaProducerInterceptor<String, String> binaryInterceptor = new MdcKafkaProducerInterceptor<>();
+        binaryInterceptor.configure(Collections.emptyMap());
+        ProducerRecord<String, String> binaryRecord = new ProducerRecord<>(TOPIC, "value");
+
+        binaryInterceptor.onSend(binaryRecord);
+
+        byte[] binary = binaryRecord.headers().lastHeader("X-Project-Id").value();
+        Assert.assertEquals(17, binary.length);
+        Assert.assertEquals(projectId, KafkaBusinessIdHeaders.decode(binary));
+    }
+
+    /**
+     * Test that producer interceptor writes business IDs of MDC as headers and doesn't override headers set.
+     */
+    @Test
+    public void testProducerInterceptorWritesBusinessIdsOfMdc() {
+        String projectId = UUID.randomUUID().toString();
+        MDC.put("projectId", projectId);
+        MDC.put("testRunId", "run");
+        MDC.put("userId", "user");
+        ProducerRecord<String, String> record = new ProducerRecord<>(TOPIC, "value");
+        record.headers().add("X-Test-Run-Id", KafkaBusinessIdHeaders.encode("explicit", false));
+
+        producerInterceptor.onSend(record);
+
+        Assert.assertEquals(projectId,
+                KafkaBusinessIdHeaders.decode(record.headers().lastHeader("X-Project-Id").value()));
+        Assert.assertEquals("explicit",
+                KafkaBusinessIdHeaders.decode(record.headers().lastHeader("X-Test-Run-Id").value()));
+        Assert.assertNull(record.headers().lastHeader("X-Execution-Request-Id"));
+        Assert.assertNull(record.headers().lastHeader("X-User-Id"));
+    }
+
+    /**
+     * Test that record interceptor puts business IDs into MDC for the record and restores MDC after it.
+     */
+    @Test
+    public void testRecordInterceptorRestoresBusinessIdsForRecord() {
+        MDC.put("projectId", "project");
+        MDC.put("executionRequestId", "request");
+        ProducerRecord<String, String> sent = new ProducerRecord<>(TOPIC, "value");
+        producerInterceptor.onSend(sent);
+        MDC.clear();
+        MDC.put("listener", "listener");
+
+        MdcKafkaRecordInterceptor<String, String> recordInterceptor = new MdcKafkaRecordInterceptor<>(registry);
+        ConsumerRecord<String, String> record = consumerRecord(sent.headers());
+        recordInterceptor.intercept(record, null);
+
+        Assert.assertEquals("project", MDC.get("projectId"));
+        Assert.assertEquals("request", MDC.get("executionRequestId"));
+        Assert.assertEquals("listener", MDC.get("listener"));
+
+        recordInterceptor.afterRecord(record, null);
+
+        Assert.assertNull(MDC.get("projectId"));
+        Assert.assertNull(MDC.get("executionRequestId"));
+        Assert.assertEquals("listener", MDC.get("listener"));
+    }
+
+    /**
+     * Test that consumer interceptor puts into MDC only business IDs all polled records have the same values of.
+     */
+    @Test
+    public void testConsumerInterceptorRestoresCommonBusinessIds() {
+        MDC.put("testRunId", "stale");
+        List<ConsumerRecord<String, String>> records = Arrays.asList(
+                consumerRecord(headers("project", "request-1")),
+                consumerRecord(headers("project", "request-2")));
+        MdcKafkaConsumerInterceptor<String, String> consumerInterceptor = new MdcKafkaConsumerInterceptor<>();
+        consumerInterceptor.configure(Collections.emptyMap());
+
+        consumerInterceptor.onConsume(new ConsumerRecords<>(
+                Collections.singletonMap(new TopicPartition(TOPIC, 0), records)));
+
+        Assert.assertEquals("project", MDC.get("projectId"));
+        Assert.assertNull(MDC.get("executionRequestId"));
+        Assert.assertNull(MDC.get("testRunId"));
+    }
+
+    /**
+     * Test that producer interceptor is added to interceptors already configured.
+     */
+    @Test
+    public void testProducerInterceptorIsAddedToConfiguredInterceptors() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ProducerConfig.INTERCEPTOR_CLASSES_CONFIG, "com.example.FirstInterceptor, com.example.Second");
+
+        BusinessIdRegistry projectRegistry = BusinessIdRegistry.of("projectId");
+
+        MdcKafkaProducerInterceptor.addTo(config, projectRegistry, true);
+
+        Assert.assertEquals(Arrays.asList("com.example.FirstInterceptor", "com.example.Second",
+                MdcKafkaProducerInterceptor.class), config.get(ProducerConfig.INTERCEPTOR_CLASSES_CONFIG));
+        Assert.assertEquals(1, config.size());
+        Assert.assertSame(projectRegistry, KafkaBusinessIdHeaders.getDefaultRegistry());
+        Assert.assertTrue(KafkaBusinessIdHeaders.isDefaultBinaryUuids());
+    }
+
+    private Headers headers(final String projectId, final String executionRequestId) {
+        Headers headers = new RecordHeaders();
+        headers.add("X-Project-Id", KafkaBusinessIdHeaders.encode(projectId, false));
+        headers.add("X-Execution-Request-Id", KafkaBusinessIdHeaders.encode(executionRequestId, false));
+        return headers;
+    }
+
+    private ConsumerRecord<String, String> consumerRecord(final Headers headers) {
+        ConsumerRecord<String, String> record = new ConsumerRecord<>(TOPIC, 0, 0L, "key", "value");
+        for (Header header : headers) {
+            record.headers().add(header);
+        }
+        return record;
+    }
+}
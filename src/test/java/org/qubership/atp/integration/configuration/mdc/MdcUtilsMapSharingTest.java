@@ -0,0 +1,108 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+
+package org.qubership.atp.integration.configuration.mdc;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.MDC;
+
+public class MdcUtilsMapSharingTest {
+
+    /**
+     * Thread MDC is propagated to.
+     */
+    private ExecutorService otherThread;
+
+    /**
+     * Clear MDC and start the other thread before tests.
+     */
+    @Before
+    public void setUp() {
+        MDC.clear();
+        otherThread = Executors.newSingleThreadExecutor();
+    }
+
+    /**
+     * Clear MDC, turn map sharing back on and stop the other thread after tests.
+     *
+     * @throws InterruptedException in case the thread is interrupted.
+     */
+    @After
+    public void tearDown() throws InterruptedException {
+        MDC.clear();
+        MdcUtils.setMapSharing(true);
+        otherThread.shutdown();
+        otherThread.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Test that with Logback 1.2 the MDC map is shared with another thread, and changes there don't affect it.
+     *
+     * @throws Exception in case the other thread fails.
+     */
+    @Test
+    public void testMapIsSharedWithLogback() throws Exception {
+        MDC.put("projectId", "project");
+        Map<String, String> view = MdcUtils.getContextMapView();
+        Assert.assertSame(view, MdcUtils.getContextMapView());
+
+        Map<String, String> otherView = otherThread.submit(() -> {
+            MdcUtils.setContextMapView(view);
+            Map<String, String> shared = MdcUtils.getContextMapView();
+            MDC.put("testRunId", "run");
+            return shared;
+        }).get(5, TimeUnit.SECONDS);
+
+        Assert.assertSame(view, otherView);
+        Assert.assertNull(view.get("testRunId"));
+        Assert.assertEquals("project", MDC.get("projectId"));
+    }
+
+    /**
+     * Test that without map sharing the MDC map is copied, and propagation works the same way.
+     *
+     * @throws Exception in case the other thread fails.
+     */
+    @Test
+    public void testMapIsCopiedWithoutSharing() throws Exception {
+        MdcUtils.setMapSharing(false);
+        MDC.put("projectId", "project");
+        Map<String, String> view = MdcUtils.getContextMapView();
+        Assert.assertNotSame(view, MdcUtils.getContextMapView());
+        Assert.assertEquals(view, MdcUtils.getContextMapView());
+
+        MdcSnapshot snapshot = MdcSnapshot.capture();
+        String[] values = otherThread.submit(() -> {
+            MdcUtils.setContextMapView(view);
+            MDC.put("testRunId", "run");
+            String projectId = MDC.get("projectId");
+            snapshot.restore();
+            return new String[] {projectId, MDC.get("projectId"), MDC.get("testRunId")};
+        }).get(5, TimeUnit.SECONDS);
+
+        Assert.assertArrayEquals(new String[] {"project", "project", null}, values);
+        Assert.assertNull(view.get("testRunId"));
+    }
+}
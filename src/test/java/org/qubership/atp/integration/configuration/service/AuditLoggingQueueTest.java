@@ -0,0 +1,157 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.configuration.service;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.qubership.atp.integration.configuration.model.AuditLoggingEvent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class AuditLoggingQueueTest {
+
+    /**
+     * Latch which keeps the worker busy with the first event.
+     */
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    /**
+     * Latch released when the worker takes the first event.
+     */
+    private final CountDownLatch started = new CountDownLatch(1);
+
+    /**
+     * Urls of events processed by the worker.
+     */
+    private final List<String> processed = new CopyOnWriteArrayList<>();
+
+    /**
+     * Queue under test.
+     */
+    private AuditLoggingQueue queue;
+
+    /**
+     * Release the worker and close the queue after tests.
+     */
+    @After
+    public void cleanup() {
+        release.countDown();
+        if (queue != null) {
+            queue.close();
+        }
+    }
+
+    /**
+     * Test that all events are processed by the worker.
+     *
+     * @throws Exception in case the worker is interrupted.
+     */
+    @Test
+    public void testEventsAreProcessedByWorker() throws Exception {
+        release.countDown();
+        queue = createQueue(AuditLoggingQueue.OverflowPolicy.DROP_NEWEST, 16);
+        for (int i = 0; i < 10; i++) {
+            Assert.assertTrue(queue.offer(event("/" + i)));
+        }
+        queue.close();
+        Assert.assertEquals(10, processed.size());
+        Assert.assertEquals("/0", processed.get(0));
+        Assert.assertEquals("/9", processed.get(9));
+    }
+
+    /**
+     * Test that the new event is dropped when the queue is full with DROP_NEWEST policy.
+     *
+     * @throws Exception in case the worker is interrupted.
+     */
+    @Test
+    public void testDropNewestPolicy() throws Exception {
+        queue = createQueue(AuditLoggingQueue.OverflowPolicy.DROP_NEWEST, 2);
+        fill();
+        Assert.assertFalse(queue.offer(event("/new")));
+        release.countDown();
+        queue.close();
+        Assert.assertEquals(1, queue.getDroppedCount());
+        Assert.assertFalse(processed.contains("/new"));
+        Assert.assertTrue(processed.contains("/queued1"));
+    }
+
+    /**
+     * Test that the oldest queued event is dropped when the queue is full with DROP_OLDEST policy.
+     *
+     * @throws Exception in case the worker is interrupted.
+     */
+    @Test
+    public void testDropOldestPolicy() throws Exception {
+        queue = createQueue(AuditLoggingQueue.OverflowPolicy.DROP_OLDEST, 2);
+        fill();
+        Assert.assertTrue(queue.offer(event("/new")));
+        release.countDown();
+        queue.close();
+        Assert.assertEquals(1, queue.getDroppedCount());
+        Assert.assertTrue(processed.contains("/new"));
+        Assert.assertFalse(processed.contains("/queued0"));
+    }
+
+    /**
+     * Test that the new event is dropped after block timeout with BLOCK policy, and metrics are registered.
+     *
+     * @throws Exception in case the worker is interrupted.
+     */
+    @Test
+    public void testBlockPolicyDropsAfterTimeout() throws Exception {
+        queue = createQueue(AuditLoggingQueue.OverflowPolicy.BLOCK, 2);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        queue.bindTo(registry);
+        fill();
+        long start = System.nanoTime();
+        Assert.assertFalse(queue.offer(event("/new")));
+        Assert.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 10);
+        Assert.assertEquals(2, registry.get("atp.audit.logging.queue.size").gauge().value(), 0);
+        Assert.assertEquals(1, registry.get("atp.audit.logging.queue.dropped").functionCounter().count(), 0);
+    }
+
+    private AuditLoggingQueue createQueue(final AuditLoggingQueue.OverflowPolicy policy, final int capacity) {
+        return new AuditLoggingQueue(capacity, policy, 10, 10, event -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            processed.add(event.getUrl());
+        });
+    }
+
+    private void fill() throws InterruptedException {
+        Assert.assertTrue(queue.offer(event("/busy")));
+        Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+        Assert.assertTrue(queue.offer(event("/queued0")));
+        Assert.assertTrue(queue.offer(event("/queued1")));
+    }
+
+    private static AuditLoggingEvent event(final String url) {
+        return new AuditLoggingEvent(System.currentTimeMillis(), url, "GET", null, null, null, null, null,
+                "userAction", 200);
+    }
+}
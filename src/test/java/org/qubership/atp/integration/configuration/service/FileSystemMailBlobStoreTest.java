@@ -0,0 +1,74 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.configuration.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.qubership.atp.integration.configuration.model.MailAttachment;
+import org.qubership.atp.integration.configuration.model.MailBlobReference;
+import org.springframework.core.io.ByteArrayResource;
+
+public class FileSystemMailBlobStoreTest {
+
+    /**
+     * Directory of blobs.
+     */
+    @Rule
+    public TemporaryFolder directory = new TemporaryFolder();
+
+    /**
+     * Test that a stored blob is referred by a key relative to the directory, so the other side
+     * may mount the directory at another path, and it's deleted by the key.
+     *
+     * @throws IOException in case the store fails.
+     */
+    @Test
+    public void storeRefersBlobByKeyRelativeToDirectory() throws IOException {
+        FileSystemMailBlobStore store = new FileSystemMailBlobStore(directory.getRoot().toPath());
+
+        MailBlobReference reference = store.store(MailAttachment.of("report.txt",
+                new ByteArrayResource("report".getBytes(StandardCharsets.UTF_8)), null));
+
+        Path file = directory.getRoot().toPath().resolve(reference.getKey());
+        Assert.assertEquals(directory.getRoot().toPath(), file.getParent());
+        Assert.assertEquals("report", new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+        Assert.assertEquals(6, reference.getSize());
+        store.delete(reference);
+        Assert.assertFalse(Files.exists(file));
+    }
+
+    /**
+     * Test that a key referring to a file outside the directory is rejected.
+     *
+     * @throws IOException in case the store can't be created.
+     */
+    @Test(expected = IOException.class)
+    public void deleteRejectsKeyOutsideDirectory() throws IOException {
+        FileSystemMailBlobStore store = new FileSystemMailBlobStore(directory.getRoot().toPath());
+        MailBlobReference reference = new MailBlobReference();
+        reference.setKey("../outside");
+
+        store.delete(reference);
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.configuration.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.qubership.atp.integration.configuration.feign.FeignClientSettings;
+import org.qubership.atp.integration.configuration.feign.MailSenderFeignClient;
+import org.qubership.atp.integration.configuration.model.MailAttachment;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.ResponseEntity;
+
+import com.sun.net.httpserver.HttpServer;
+import feign.FeignException;
+import feign.Request;
+import feign.RequestInterceptor;
+import feign.RetryableException;
+import feign.Retryer;
+import feign.Target;
+import feign.codec.ErrorDecoder;
+
+public class MailSenderMultipartClientTest {
+
+    /**
+     * Size of streamed attachment, larger than a sensible request buffer.
+     */
+    private static final long ATTACHMENT_SIZE = 32L * 1024 * 1024;
+
+    /**
+     * Size of the beginning of request body kept to check part headers.
+     */
+    private static final int BODY_HEAD_SIZE = 4096;
+
+    /**
+     * Mail-sender stub.
+     */
+    private HttpServer server;
+
+    /**
+     * Request path received by the stub.
+     */
+    private final AtomicReference<String> path = new AtomicReference<>();
+
+    /**
+     * Transfer-Encoding header received by the stub.
+     */
+    private final AtomicReference<String> transferEncoding = new AtomicReference<>();
+
+    /**
+     * Header set by Feign request interceptor, received by the stub.
+     */
+    private final AtomicReference<String> interceptorHeader = new AtomicReference<>();
+
+    /**
+     * Beginning of request body received by the stub.
+     */
+    private final AtomicReference<String> bodyHead = new AtomicReference<>();
+
+    /**
+     * Count of request body bytes received by the stub.
+     */
+    private final AtomicLong bodySize = new AtomicLong();
+
+    /**
+     * Response status of the stub.
+     */
+    private final AtomicInteger status = new AtomicInteger(200);
+
+    /**
+     * Count of requests received by the stub.
+     */
+    private final AtomicInteger requests = new AtomicInteger();
+
+    /**
+     * Start mail-sender stub reading and counting request body.
+     *
+     * @throws IOException in case the stub can't be started.
+     */
+    @Before
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            requests.incrementAndGet();
+            path.set(exchange.getRequestURI().getPath());
+            transferEncoding.set(exchange.getRequestHeaders().getFirst("Transfer-Encoding"));
+            interceptorHeader.set(exchange.getRequestHeaders().getFirst("X-Project-Id"));
+            ByteArrayOutputStream head = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            long size = 0;
+            try (InputStream body = exchange.getRequestBody()) {
+                int read;
+                while ((read = body.read(buffer)) != -1) {
+                    if (head.size() < BODY_HEAD_SIZE) {
+                        head.write(buffer, 0, Math.min(read, BODY_HEAD_SIZE - head.size()));
+                    }
+                    size += read;
+                }
+            }
+            bodyHead.set(new String(head.toByteArray(), StandardCharsets.ISO_8859_1));
+            bodySize.set(size);
+            byte[] response = ("{\"status\":" + status.get() + "}").getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status.get(), response.length);
+            exchange.getResponseBody().write(response);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    /**
+     * Stop mail-sender stub.
+     */
+    @After
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    /**
+     * Test that attachment read from a stream is sent by chunks with headers set by Feign interceptors.
+     */
+    @Test
+    public void sendStreamsAttachmentWithChunkedTransferEncoding() {
+        URI baseUri = URI.create("http://localhost:" + server.getAddress().getPort());
+        AtomicReference<String> interceptedTarget = new AtomicReference<>();
+        AtomicReference<String> interceptedUrl = new AtomicReference<>();
+        MailSenderMultipartClient client = client(baseUri, Collections.singletonList(template -> {
+            interceptedTarget.set(template.feignTarget().name());
+            interceptedUrl.set(template.url());
+            template.header("X-Project-Id", "project");
+        }), Retryer.NEVER_RETRY);
+
+        ResponseEntity<String> response = client.send("{\"subject\":\"report\"}",
+                Collections.singletonList(MailAttachment.of("report.bin", new GeneratedInputStream(ATTACHMENT_SIZE))),
+                null);
+
+        Assert.assertEquals(200, response.getStatusCodeValue());
+        Assert.assertEquals("/route" + MailSenderMultipartClient.SEND_PATH, path.get());
+        Assert.assertEquals("chunked", transferEncoding.get());
+        Assert.assertEquals("project", interceptorHeader.get());
+        Assert.assertEquals("atp-mail-sender", interceptedTarget.get());
+        Assert.assertEquals(baseUri + "/route" + MailSenderMultipartClient.SEND_PATH, interceptedUrl.get());
+        Assert.assertTrue(bodyHead.get().contains("{\"subject\":\"report\"}"));
+        Assert.assertTrue(bodyHead.get().contains("name=\"attachment\"; filename=\"report.bin\""));
+        Assert.assertTrue(bodySize.get() > ATTACHMENT_SIZE);
+    }
+
+    /**
+     * Test that non-2xx response is turned into exception by the error decoder, like Feign client does,
+     * and the request isn't retried, as the attachment is read from a stream.
+     */
+    @Test
+    public void sendDecodesErrorResponseByFeignErrorDecoder() {
+        status.set(400);
+        URI baseUri = URI.create("http://localhost:" + server.getAddress().getPort());
+        MailSenderMultipartClient client = client(baseUri, Collections.emptyList(),
+                new Retryer.Default(1, 1, 3));
+
+        try {
+            client.send("{\"subject\":\"report\"}", Collections.singletonList(MailAttachment.of("report.bin",
+                    new GeneratedInputStream(16))), null);
+            Assert.fail("FeignException is expected");
+        } catch (FeignException.BadRequest e) {
+            Assert.assertEquals(400, e.status());
+            Assert.assertTrue(e.getMessage().contains(MailSenderMultipartClient.CONFIG_KEY));
+            Assert.assertTrue(e.getMessage().contains("{\"status\":400}"));
+        }
+        Assert.assertEquals(1, requests.get());
+    }
+
+    /**
+     * Test that a retryable failure is retried by the Feign retryer if attachments can be read again.
+     */
+    @Test
+    public void sendRetriesRereadableAttachmentsByFeignRetryer() {
+        URI baseUri = URI.create("http://localhost:" + server.getAddress().getPort());
+        AtomicInteger attempts = new AtomicInteger();
+        MailSenderMultipartClient client = client(baseUri, Collections.singletonList(template -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new RetryableException(-1, "unavailable", Request.HttpMethod.POST, (Date) null,
+                        Request.create(Request.HttpMethod.POST, template.url(), template.headers(), null,
+                                StandardCharsets.UTF_8, template));
+            }
+        }), new Retryer.Default(1, 1, 3));
+
+        ResponseEntity<String> response = client.send("{\"subject\":\"report\"}",
+                Collections.singletonList(MailAttachment.of("report.csv",
+                        new ByteArrayResource("a,b".getBytes(StandardCharsets.UTF_8)), null)), null);
+
+        Assert.assertEquals(200, response.getStatusCodeValue());
+        Assert.assertEquals(2, attempts.get());
+        Assert.assertEquals(1, requests.get());
+    }
+
+    private MailSenderMultipartClient client(final URI baseUri,
+                                             final List<RequestInterceptor> interceptors,
+                                             final Retryer retryer) {
+        return new MailSenderMultipartClient(() -> baseUri, "/route",
+                new Target.HardCodedTarget<>(MailSenderFeignClient.class, "atp-mail-sender", "http://atp-mail-sender"),
+                new FeignClientSettings(new Request.Options(1, TimeUnit.SECONDS, 5, TimeUnit.SECONDS, true),
+                        interceptors, new ErrorDecoder.Default(), retryer), 65536);
+    }
+
+    /**
+     * Input stream generating bytes without holding them in memory.
+     */
+    private static class GeneratedInputStream extends InputStream {
+
+        /**
+         * Count of bytes left to generate.
+         */
+        private long remaining;
+
+        GeneratedInputStream(final long size) {
+            this.remaining = size;
+        }
+
+        @Override
+        public int read() {
+            if (remaining == 0) {
+                return -1;
+            }
+            remaining--;
+            return 'a';
+        }
+
+        @Override
+        public int read(final byte[] buffer, final int offset, final int length) {
+            if (remaining == 0) {
+                return -1;
+            }
+            int count = (int) Math.min(length, remaining);
+            Arrays.fill(buffer, offset, offset + count, (byte) 'a');
+            remaining -= count;
+            return count;
+        }
+    }
+}
@@ -16,23 +16,54 @@
 
 package org.qubership.atp.integration.configuration.service;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
+import org.apache.commons.lang3.StringUtils;
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerInterceptor;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.serialization.UUIDSerializer;
 import org.junit.Assert;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.mockito.Mockito;
 import org.qubership.atp.integration.configuration.feign.MailSenderFeignClient;
+import org.qubership.atp.integration.configuration.interceptors.MdcKafkaProducerInterceptor;
+import org.qubership.atp.integration.configuration.mdc.BusinessIdRegistry;
+import org.qubership.atp.integration.configuration.mdc.KafkaBusinessIdHeaders;
+import org.qubership.atp.integration.configuration.model.ClaimCheckMailRequest;
+import org.qubership.atp.integration.configuration.model.MailBlobReference;
 import org.qubership.atp.integration.configuration.model.MailRequest;
 import org.qubership.atp.integration.configuration.model.MailResponse;
+import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.serializer.JsonSerializer;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -40,6 +71,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @SpringBootTest
 @RunWith(SpringRunner.class)
@@ -63,6 +95,17 @@ public class MailSenderServiceTest {
     @Autowired
     private MailSenderService mailSenderService;
 
+    /**
+     * Mail sender metrics of services created by tests.
+     */
+    private final MailSenderMetrics metrics = new MailSenderMetrics();
+
+    /**
+     * Directory of blob store of claim-check sending.
+     */
+    @Rule
+    public TemporaryFolder blobDirectory = new TemporaryFolder();
+
     /**
      * Test sending mail.
      */
@@ -129,4 +172,363 @@ public class MailSenderServiceTest {
         Mockito.verify(mailSenderFeignClient)
                 .sendWithAttachment(mapper.writeValueAsString(request), attachments, inlines);
     }
+
+    /**
+     * Test that asynchronous sending doesn't wait for Kafka and completes when Kafka acknowledges the mail.
+     *
+     * @throws Exception in case the future fails.
+     */
+    @Test
+    public void sendMailAsyncCompletesWhenKafkaAcknowledges() throws Exception {
+        MockProducer<UUID, MailRequest> producer = mockProducer();
+        MailSenderService service = kafkaMailSenderService(producer, null);
+        MailRequest request = new MailRequest();
+        request.setService("test");
+
+        CompletableFuture<MailResponse> future = service.sendAsync(request);
+
+        Assert.assertFalse(future.isDone());
+        producer.completeNext();
+        Assert.assertEquals(200, future.get(5, TimeUnit.SECONDS).getStatus());
+        Mockito.verifyNoInteractions(mailSenderFeignClient);
+    }
+
+    /**
+     * Test that a mail too big for Kafka is sent via REST by the REST executor, with MDC of the caller.
+     *
+     * @throws Exception in case the future fails.
+     */
+    @Test
+    public void sendMailAsyncFallsBackToRestForTooLargeMail() throws Exception {
+        MockProducer<UUID, MailRequest> producer = mockProducer();
+        ExecutorService restExecutor = Executors.newSingleThreadExecutor();
+        try {
+            MailSenderService service = kafkaMailSenderService(producer, restExecutor);
+            MailRequest request = new MailRequest();
+            request.setService("test");
+            AtomicReference<String> restProjectId = new AtomicReference<>();
+            Mockito.when(mailSenderFeignClient.send(request)).thenAnswer(invocation -> {
+                restProjectId.set(MDC.get("projectId"));
+                return new ResponseEntity(HttpStatus.OK);
+            });
+
+            MDC.put("projectId", "project");
+            CompletableFuture<MailResponse> future = service.sendAsync(request);
+            MDC.clear();
+            producer.errorNext(new RecordTooLargeException("too large"));
+
+            MailResponse response = future.get(5, TimeUnit.SECONDS);
+            Assert.assertEquals(200, response.getStatus());
+            Assert.assertEquals("Mail sent successfully", response.getMessage());
+            Assert.assertEquals("project", restProjectId.get());
+        } finally {
+            restExecutor.shutdown();
+        }
+    }
+
+    /**
+     * Test that synchronous sending runs REST fallback on the calling thread, not by the REST executor
+     * nor the producer thread completing Kafka sending, so it can't wait for a pool the caller occupies.
+     *
+     * @throws Exception in case sending fails.
+     */
+    @Test
+    public void sendMailRunsRestFallbackOnCallingThread() throws Exception {
+        MockProducer<UUID, MailRequest> producer = mockProducer();
+        MailSenderService service = kafkaMailSenderService(producer,
+                task -> Assert.fail("REST executor must not be used by synchronous sending"));
+        MailRequest request = mail("too large");
+        AtomicReference<Thread> restThread = new AtomicReference<>();
+        Mockito.when(mailSenderFeignClient.send(request)).thenAnswer(invocation -> {
+            restThread.set(Thread.currentThread());
+            return new ResponseEntity(HttpStatus.OK);
+        });
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+        try {
+            CompletableFuture<Thread> callingThread = new CompletableFuture<>();
+            Future<MailResponse> response = caller.submit(() -> {
+                callingThread.complete(Thread.currentThread());
+                return service.send(request);
+            });
+            while (!producer.errorNext(new RecordTooLargeException("too large"))) {
+                Thread.sleep(10);
+            }
+
+            Assert.assertEquals(200, response.get(5, TimeUnit.SECONDS).getStatus());
+            Assert.assertSame(callingThread.get(), restThread.get());
+        } finally {
+            caller.shutdown();
+        }
+    }
+
+    /**
+     * Test that a failure of Kafka sending completes the future with error response.
+     *
+     * @throws Exception in case the future fails.
+     */
+    @Test
+    public void sendMailAsyncReportsKafkaFailure() throws Exception {
+        MockProducer<UUID, MailRequest> producer = mockProducer();
+        MailSenderService service = kafkaMailSenderService(producer, null);
+        MailRequest request = new MailRequest();
+        request.setService("test");
+
+        CompletableFuture<MailResponse> future = service.sendAsync(request);
+        producer.errorNext(new TimeoutException("Expiring 1 record(s)"));
+
+        MailResponse response = future.get(5, TimeUnit.SECONDS);
+        Assert.assertEquals(500, response.getStatus());
+        Mockito.verifyNoInteractions(mailSenderFeignClient);
+    }
+
+    /**
+     * Test that bulk sending hands all mails to the producer before they're acknowledged, flushes once,
+     * and sends via REST only the mail too big for Kafka.
+     */
+    @Test
+    public void sendAllMailsPipelinesKafkaSendsAndReroutesOversizeMails() {
+        OversizeRejectingProducer producer = new OversizeRejectingProducer();
+        MailSenderService service = kafkaMailSenderService(producer, null);
+        List<MailRequest> mails = Arrays.asList(mail("first"), mail(OversizeRejectingProducer.OVERSIZE_SUBJECT),
+                mail("second"));
+        Mockito.when(mailSenderFeignClient.send(mails.get(1))).thenReturn(new ResponseEntity(HttpStatus.OK));
+
+        List<MailResponse> responses = service.sendAll(mails);
+
+        Assert.assertEquals(3, responses.size());
+        Assert.assertEquals("Mail request successfully sent to kafka", responses.get(0).getMessage());
+        Assert.assertEquals("Mail sent successfully", responses.get(1).getMessage());
+        Assert.assertEquals("Mail request successfully sent to kafka", responses.get(2).getMessage());
+        Assert.assertTrue(producer.flushed());
+        Assert.assertEquals(2, producer.history().size());
+        Mockito.verify(mailSenderFeignClient).send(mails.get(1));
+        Mockito.verifyNoMoreInteractions(mailSenderFeignClient);
+    }
+
+    /**
+     * Test that mails bigger than the message size are sent via REST without trying Kafka,
+     * mails close to the limit are checked by serialized size, and routes are counted.
+     */
+    @Test
+    public void sendMailsRoutesOversizeMailToRestBeforeKafka() {
+        OversizeRejectingProducer producer = new OversizeRejectingProducer();
+        MailSenderService service = kafkaMailSenderService(producer, Runnable::run);
+        ReflectionTestUtils.setField(service, "maxMessageSize", 4096);
+        MailRequest small = mail("small");
+        small.setContent(StringUtils.repeat('a', 100));
+        MailRequest nearLimit = mail("near limit");
+        nearLimit.setContent(StringUtils.repeat('\u044f', 1000));
+        MailRequest big = mail("big");
+        big.setContent(StringUtils.repeat('a', 4096));
+        Mockito.when(mailSenderFeignClient.send(big)).thenReturn(new ResponseEntity(HttpStatus.OK));
+
+        List<MailResponse> responses = service.sendAll(Arrays.asList(small, nearLimit, big));
+
+        for (MailResponse response : responses) {
+            Assert.assertEquals(200, response.getStatus());
+        }
+
+        Assert.assertEquals(2, producer.history().size());
+        Mockito.verify(mailSenderFeignClient).send(big);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        metrics.bindTo(registry);
+        Assert.assertEquals(2, registry.get("atp.mail.sender.requests").tag("transport", "kafka")
+                .tag("reason", "within_size_limit").functionCounter().count(), 0);
+        Assert.assertEquals(1, registry.get("atp.mail.sender.requests").tag("transport", "rest")
+                .tag("reason", "over_size_limit").functionCounter().count(), 0);
+    }
+
+    /**
+     * Test that a mail with attachments and large body is sent over Kafka by claim-check:
+     * the body and attachments are staged to the blob store and the Kafka message refers to them.
+     *
+     * @throws IOException in case the blob store fails.
+     */
+    @Test
+    public void sendMailWithAttachmentsByClaimCheckOverKafka() throws IOException {
+        MockProducer<UUID, MailRequest> producer = new MockProducer<>(true, new UUIDSerializer(),
+                new JsonSerializer<>());
+        MailSenderService service = kafkaMailSenderService(producer, Runnable::run,
+                new FileSystemMailBlobStore(blobDirectory.getRoot().toPath()));
+        ReflectionTestUtils.setField(service, "claimCheckThreshold", 1024);
+        MailRequest request = mail("report");
+        request.setContent(StringUtils.repeat('a', 2048));
+        List<MultipartFile> attachments = Arrays.asList(
+                new MockMultipartFile("file", "report.csv", "text/csv", "a,b".getBytes(StandardCharsets.UTF_8)));
+
+        MailResponse response = service.send(request, attachments);
+
+        Assert.assertEquals(200, response.getStatus());
+        Assert.assertEquals(1, producer.history().size());
+        ClaimCheckMailRequest sent = (ClaimCheckMailRequest) producer.history().get(0).value();
+        Assert.assertEquals("report", sent.getSubject());
+        Assert.assertNull(sent.getContent());
+        Assert.assertEquals(request.getContent(), readBlob(sent.getContentReference()));
+        Assert.assertEquals(1, sent.getAttachments().size());
+        MailBlobReference attachment = sent.getAttachments().get(0);
+        Assert.assertEquals(blobDirectory.getRoot().toPath().resolve(attachment.getKey()).getParent(),
+                blobDirectory.getRoot().toPath());
+        Assert.assertEquals("report.csv", attachment.getFileName());
+        Assert.assertEquals("text/csv", attachment.getContentType());
+        Assert.assertEquals(3, attachment.getSize());
+        Assert.assertEquals("a,b", readBlob(attachment));
+        Assert.assertTrue(sent.getInlines().isEmpty());
+        Mockito.verifyNoInteractions(mailSenderFeignClient);
+    }
+
+    /**
+     * Test that a large mail failed to send by claim-check is sent via REST and its staged blobs are deleted.
+     *
+     * @throws Exception in case the future or the blob store fails.
+     */
+    @Test
+    public void sendMailAsyncByClaimCheckFallsBackToRestAndDeletesBlobs() throws Exception {
+        MockProducer<UUID, MailRequest> producer = mockProducer();
+        MailSenderService service = kafkaMailSenderService(producer, Runnable::run,
+                new FileSystemMailBlobStore(blobDirectory.getRoot().toPath()));
+        ReflectionTestUtils.setField(service, "claimCheckThreshold", 1024);
+        MailRequest request = mail("big");
+        request.setContent(StringUtils.repeat('a', 2048));
+        Mockito.when(mailSenderFeignClient.send(request)).thenReturn(new ResponseEntity(HttpStatus.OK));
+
+        CompletableFuture<MailResponse> future = service.sendAsync(request);
+        Assert.assertEquals(1, blobDirectory.getRoot().list().length);
+        producer.errorNext(new TimeoutException("Expiring 1 record(s)"));
+
+        Assert.assertEquals(200, future.get(5, TimeUnit.SECONDS).getStatus());
+        Mockito.verify(mailSenderFeignClient).send(request);
+        Assert.assertEquals(0, blobDirectory.getRoot().list().length);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        metrics.bindTo(registry);
+        Assert.assertEquals(1, registry.get("atp.mail.sender.requests").tag("transport", "kafka")
+                .tag("reason", "claim_check").functionCounter().count(), 0);
+        Assert.assertEquals(1, registry.get("atp.mail.sender.requests").tag("transport", "rest")
+                .tag("reason", "claim_check_failed").functionCounter().count(), 0);
+    }
+
+    /**
+     * Test that a large mail sent asynchronously by claim-check is handed to the producer with MDC of the caller,
+     * so the producer interceptor writes its business IDs as record headers.
+     *
+     * @throws Exception in case the future or the blob store fails.
+     */
+    @Test
+    public void sendMailAsyncByClaimCheckWritesBusinessIdHeaders() throws Exception {
+        InterceptingProducer producer = new InterceptingProducer(
+                new MdcKafkaProducerInterceptor<>(BusinessIdRegistry.of("projectId"), false));
+        ExecutorService restExecutor = Executors.newSingleThreadExecutor();
+        try {
+            MailSenderService service = kafkaMailSenderService(producer, restExecutor,
+                    new FileSystemMailBlobStore(blobDirectory.getRoot().toPath()));
+            ReflectionTestUtils.setField(service, "claimCheckThreshold", 1024);
+            MailRequest request = mail("big");
+            request.setContent(StringUtils.repeat('a', 2048));
+
+            MDC.put("projectId", "project");
+            CompletableFuture<MailResponse> future = service.sendAsync(request);
+            MDC.clear();
+
+            Assert.assertEquals(200, future.get(5, TimeUnit.SECONDS).getStatus());
+            Assert.assertEquals(1, producer.history().size());
+            ProducerRecord<UUID, MailRequest> sent = producer.history().get(0);
+            Assert.assertTrue(sent.value() instanceof ClaimCheckMailRequest);
+            Header header = sent.headers().lastHeader("X-Project-Id");
+            Assert.assertNotNull(header);
+            Assert.assertEquals("project", KafkaBusinessIdHeaders.decode(header.value()));
+            Mockito.verifyNoInteractions(mailSenderFeignClient);
+        } finally {
+            restExecutor.shutdown();
+        }
+    }
+
+    private String readBlob(final MailBlobReference reference) throws IOException {
+        Path file = blobDirectory.getRoot().toPath().resolve(reference.getKey());
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    }
+
+    private MailRequest mail(final String subject) {
+        MailRequest mail = new MailRequest();
+        mail.setService("test");
+        mail.setSubject(subject);
+        return mail;
+    }
+
+    private MailSenderService kafkaMailSenderService(final MockProducer<UUID, MailRequest> producer,
+                                                     final Executor restExecutor) {
+        return kafkaMailSenderService(producer, restExecutor, null);
+    }
+
+    private MailSenderService kafkaMailSenderService(final MockProducer<UUID, MailRequest> producer,
+                                                     final Executor restExecutor,
+                                                     final MailBlobStore blobStore) {
+        MailSenderService service = restExecutor == null
+                ? new MailSenderService(new KafkaTemplate<>(() -> producer), mailSenderFeignClient)
+                : new MailSenderService(new KafkaTemplate<>(() -> producer), mailSenderFeignClient, restExecutor,
+                        metrics, null, blobStore);
+        ReflectionTestUtils.setField(service, "mailRequestTopic", "ci_mails");
+        return service;
+    }
+
+    private MockProducer<UUID, MailRequest> mockProducer() {
+        return new MockProducer<>(false, new UUIDSerializer(), new JsonSerializer<>());
+    }
+
+    /**
+     * Mock producer which, like KafkaProducer, passes records to the interceptor on the sending thread.
+     */
+    private static final class InterceptingProducer extends MockProducer<UUID, MailRequest> {
+
+        /**
+         * Interceptor of records sent.
+         */
+        private final ProducerInterceptor<UUID, MailRequest> interceptor;
+
+        private InterceptingProducer(final ProducerInterceptor<UUID, MailRequest> interceptor) {
+            super(true, new UUIDSerializer(), new JsonSerializer<>());
+            this.interceptor = interceptor;
+        }
+
+        @Override
+        public synchronized Future<RecordMetadata> send(final ProducerRecord<UUID, MailRequest> record,
+                                                        final Callback callback) {
+            return super.send(interceptor.onSend(record), callback);
+        }
+    }
+
+    /**
+     * Mock producer which acknowledges records on flush, rejects mails with oversize subject
+     * as too large and, like producers of DefaultKafkaProducerFactory, isn't closed by KafkaTemplate.
+     */
+    private static final class OversizeRejectingProducer extends MockProducer<UUID, MailRequest> {
+
+        /**
+         * Subject of mails rejected as too large.
+         */
+        private static final String OVERSIZE_SUBJECT = "oversize";
+
+        private OversizeRejectingProducer() {
+            super(false, new UUIDSerializer(), new JsonSerializer<>());
+        }
+
+        @Override
+        public synchronized Future<RecordMetadata> send(final ProducerRecord<UUID, MailRequest> record,
+                                                        final Callback callback) {
+            if (OVERSIZE_SUBJECT.equals(record.value().getSubject())) {
+                RecordTooLargeException exception = new RecordTooLargeException("The message is too large");
+                callback.onCompletion(null, exception);
+                CompletableFuture<RecordMetadata> future = new CompletableFuture<>();
+                future.completeExceptionally(exception);
+                return future;
+            }
+            return super.send(record, callback);
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void close(final Duration timeout) {
+        }
+    }
 }
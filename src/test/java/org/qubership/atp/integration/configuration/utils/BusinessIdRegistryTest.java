@@ -0,0 +1,67 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.configuration.utils;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qubership.atp.integration.configuration.mdc.BusinessId;
+import org.qubership.atp.integration.configuration.mdc.BusinessIdRegistry;
+
+public class BusinessIdRegistryTest {
+
+    /**
+     * Test of building registry from comma separated string.
+     */
+    @Test
+    public void testOfStringBuildsHeaderNamesInOrder() {
+        BusinessIdRegistry registry = BusinessIdRegistry.of("projectId, executionRequestId,testRunId");
+
+        Assert.assertEquals(3, registry.size());
+        BusinessId executionRequestId = registry.getBusinessIds().get(1);
+        Assert.assertEquals("executionRequestId", executionRequestId.getName());
+        Assert.assertEquals("X-Execution-Request-Id", executionRequestId.getHeaderName());
+        Assert.assertEquals("x-execution-request-id", executionRequestId.getLowerCaseHeaderName());
+        Assert.assertEquals(1, executionRequestId.getIndex());
+    }
+
+    /**
+     * Test of finding business ID by header name ignoring case.
+     */
+    @Test
+    public void testFindByHeaderIgnoresCase() {
+        BusinessIdRegistry registry = BusinessIdRegistry.of(Arrays.asList("projectId", "testRunId"));
+
+        Assert.assertEquals("projectId", registry.findByHeader("x-project-id").getName());
+        Assert.assertEquals("testRunId", registry.findByHeader("X-TEST-RUN-ID").getName());
+        Assert.assertNull(registry.findByHeader("X-Request-Id"));
+        Assert.assertNull(registry.findByHeader(null));
+    }
+
+    /**
+     * Test of skipping blank and duplicated business IDs.
+     */
+    @Test
+    public void testBlankAndDuplicatedIdsAreSkipped() {
+        BusinessIdRegistry registry = BusinessIdRegistry.of(Arrays.asList("projectId", " ", "projectId", "testRunId"));
+
+        Assert.assertEquals(2, registry.size());
+        Assert.assertEquals(1, registry.findByHeader("X-Test-Run-Id").getIndex());
+        Assert.assertTrue(BusinessIdRegistry.of((String) null).isEmpty());
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.integration.configuration.utils;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.qubership.atp.integration.configuration.mdc.MdcSnapshot;
+import org.qubership.atp.integration.configuration.mdc.MdcUtils;
+import org.slf4j.MDC;
+
+public class MdcSnapshotTest {
+
+    /**
+     * Executor running tasks on another thread.
+     */
+    private static ExecutorService executor;
+
+    /**
+     * Create executor.
+     */
+    @BeforeClass
+    public static void createExecutor() {
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    /**
+     * Shutdown executor.
+     */
+    @AfterClass
+    public static void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Clear MDC after each test.
+     */
+    @After
+    public void clearMdc() {
+        MDC.clear();
+    }
+
+    /**
+     * Test that empty MDC is captured as the empty snapshot.
+     */
+    @Test
+    public void testCaptureOfEmptyMdcReturnsEmptySnapshot() {
+        Assert.assertSame(MdcSnapshot.EMPTY, MdcSnapshot.capture());
+        Assert.assertTrue(MdcSnapshot.capture().getContextMap().isEmpty());
+    }
+
+    /**
+     * Test that snapshot isn't affected by MDC changes made after capture.
+     */
+    @Test
+    public void testSnapshotIsNotChangedByLaterMdcChanges() {
+        MDC.put("projectId", "project");
+        MdcSnapshot snapshot = MdcSnapshot.capture();
+        MDC.put("projectId", "another");
+        MDC.put("testRunId", "testRun");
+        MDC.remove("projectId");
+
+        Assert.assertEquals("project", snapshot.get("projectId"));
+        Assert.assertNull(snapshot.get("testRunId"));
+        Assert.assertEquals(1, snapshot.getContextMap().size());
+    }
+
+    /**
+     * Test that snapshot restored on another thread is shared without copying,
+     * and changes of MDC on that thread affect neither the snapshot nor MDC of the capturing thread.
+     *
+     * @throws Exception in case the task fails.
+     */
+    @Test
+    public void testRestoredSnapshotIsSharedAndCopiedOnWrite() throws Exception {
+        MDC.put("projectId", "project");
+        Map<String, String> capturedMap = MdcUtils.getContextMapView();
+        MdcSnapshot snapshot = MdcSnapshot.capture();
+
+        executor.submit(() -> {
+            snapshot.restore();
+            Assert.assertSame(capturedMap, MdcUtils.getContextMapView());
+            Assert.assertEquals("project", MDC.get("projectId"));
+            MDC.put("projectId", "changed");
+            MDC.put("testRunId", "testRun");
+            Assert.assertEquals("changed", MDC.get("projectId"));
+            MDC.clear();
+        }).get(5, TimeUnit.SECONDS);
+
+        Assert.assertEquals("project", snapshot.get("projectId"));
+        Assert.assertNull(snapshot.get("testRunId"));
+        Assert.assertEquals("project", MDC.get("projectId"));
+        Assert.assertNull(MDC.get("testRunId"));
+    }
+
+    /**
+     * Test that wrapped task runs with the snapshot as MDC and leaves MDC of the worker thread clear.
+     *
+     * @throws Exception in case the task fails.
+     */
+    @Test
+    public void testWrappedTaskRunsWithSnapshot() throws Exception {
+        MDC.put("projectId", "project");
+        Runnable task = MdcSnapshot.capture().wrap(() -> Assert.assertEquals("project", MDC.get("projectId")));
+        MDC.clear();
+
+        executor.submit(task).get(5, TimeUnit.SECONDS);
+        Assert.assertNull(executor.submit(() -> MDC.get("projectId")).get(5, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Test that attaching a snapshot which is already MDC of the current thread changes nothing
+     * and returns the snapshot itself instead of a new one.
+     */
+    @Test
+    public void testAttachOfCurrentMdcReturnsSameSnapshot() {
+        MDC.put("projectId", "project");
+        MdcSnapshot snapshot = MdcSnapshot.capture();
+
+        Assert.assertSame(snapshot, snapshot.attach());
+        Assert.assertEquals("project", MDC.get("projectId"));
+    }
+}
@@ -68,6 +68,18 @@ public class MdcUtilsTest {
     public void testConvertIdNameToHeaderNameSuccessful() {
         Assert.assertEquals("X-Execution-Request-Id", MdcUtils.convertIdNameToHeader("executionRequestId"));
         Assert.assertEquals("X-Project-Id", MdcUtils.convertIdNameToHeader("projectId"));
+        Assert.assertEquals("X-Project-Id", MdcUtils.convertIdNameToHeader("ProjectId"));
+        Assert.assertEquals("X-U-R-L-Id", MdcUtils.convertIdNameToHeader("URLId"));
+    }
+
+    /**
+     * Test of reading MDC of the current thread.
+     */
+    @Test
+    public void testGetContextMapViewSuccessful() {
+        Assert.assertTrue(MdcUtils.getContextMapView() == null || MdcUtils.getContextMapView().isEmpty());
+        MDC.put("key", "value");
+        Assert.assertEquals("value", MdcUtils.getContextMapView().get("key"));
     }
 
     /**